@@ -2,8 +2,10 @@ package com.menubot.menubot;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(MenubotRuntimeHints.class)
 public class MenubotApplication {
 
 	public static void main(String[] args) {
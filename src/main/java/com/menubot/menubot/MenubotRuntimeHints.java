@@ -0,0 +1,34 @@
+package com.menubot.menubot;
+
+import com.menubot.menubot.kakao.dto.QuickReply;
+import com.menubot.menubot.kakao.dto.SimpleTextWrapper;
+import com.menubot.menubot.kakao.dto.Template;
+import com.menubot.menubot.kakao.dto.request.KakaoRequest;
+import com.menubot.menubot.kakao.dto.response.KakaoResponse;
+import com.menubot.menubot.menu.dto.MenuAliasDto;
+import com.menubot.menubot.menu.dto.MenuAliasRequest;
+import com.menubot.menubot.menu.dto.MenuMergeRequest;
+import com.menubot.menubot.menu.dto.MenuMergeResultDto;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * AOT/네이티브 이미지용 리플렉션 힌트
+ * - 요청/응답 DTO: JSON 바인딩 (중첩 타입 포함)
+ * - 엔티티는 Spring ORM 의 JPA AOT 처리(PersistenceManagedTypes)가 필드까지 힌트를 등록하므로 여기서 다루지 않음
+ */
+public class MenubotRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> BINDING_TYPES = List.of(
+            KakaoRequest.class, KakaoResponse.class, Template.class, SimpleTextWrapper.class, QuickReply.class,
+            MenuAliasRequest.class, MenuMergeRequest.class, MenuAliasDto.class, MenuMergeResultDto.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar()
+                .registerReflectionHints(hints.reflection(), BINDING_TYPES.toArray(Class<?>[]::new));
+    }
+}
@@ -0,0 +1,37 @@
+package com.menubot.menubot.kakao.config;
+
+import com.menubot.menubot.kakao.dto.request.KakaoRequest;
+import com.menubot.menubot.menu.datasource.RequestUserContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * 스킬 요청 본문에서 사용자 ID 를 꺼내 요청 컨텍스트에 저장 (복제본 지연 보호용)
+ * 요청이 끝나면 KakaoWebConfig 의 인터셉터가 지움
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "menubot.datasource.routing.enabled", havingValue = "true")
+public class KakaoUserContextAdvice extends RequestBodyAdviceAdapter {
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return KakaoRequest.class.equals(targetType);
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        KakaoRequest request = (KakaoRequest) body;
+        if (request.getUserRequest() != null && request.getUserRequest().getUser() != null) {
+            RequestUserContext.set(request.getUserRequest().getUser().getId());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,27 @@
+package com.menubot.menubot.kakao.config;
+
+import com.menubot.menubot.menu.datasource.RequestUserContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "menubot.datasource.routing.enabled", havingValue = "true")
+public class KakaoWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 요청 스레드 재사용 전에 사용자 컨텍스트 정리
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                        Object handler, Exception ex) {
+                RequestUserContext.clear();
+            }
+        }).addPathPatterns("/kakao/**");
+    }
+}
@@ -1,19 +1,45 @@
 package com.menubot.menubot.kakao.controller;
 
+import com.menubot.menubot.kakao.dto.QuickReply;
 import com.menubot.menubot.kakao.dto.request.KakaoRequest;
+import com.menubot.menubot.kakao.dto.response.KakaoMessages;
 import com.menubot.menubot.kakao.dto.response.KakaoResponse;
+import com.menubot.menubot.kakao.startup.StartupState;
+import com.menubot.menubot.menu.dto.MealHistoryDto;
+import com.menubot.menubot.menu.dto.MealHistoryPageDto;
+import com.menubot.menubot.menu.dto.MealStatsDto;
+import com.menubot.menubot.menu.dto.MealStatsReportDto;
+import com.menubot.menubot.menu.dto.MenuConstraint;
 import com.menubot.menubot.menu.dto.MenuRecommendationDto;
 import com.menubot.menubot.menu.entity.MealHistory;
 import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.entity.UserGroup;
+import com.menubot.menubot.menu.precompute.PrecomputedRecommendationStore;
+import com.menubot.menubot.menu.service.GroupRecommendationService;
+import com.menubot.menubot.menu.service.MealStatsService;
+import com.menubot.menubot.menu.service.RatingService;
 import com.menubot.menubot.menu.service.RecommendationService;
+import com.menubot.menubot.menu.util.parser.ConstraintParser;
 import com.menubot.menubot.menu.util.parser.MessageParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -22,7 +48,22 @@ import java.util.List;
 public class KakaoController {
 
     private final RecommendationService recommendationService;
+    private final GroupRecommendationService groupRecommendationService;
+    private final RatingService ratingService;
     private final MessageParser messageParser;
+    private final ConstraintParser constraintParser;
+    private final PrecomputedRecommendationStore precomputedStore;
+    private final MealStatsService mealStatsService;
+    private final StartupState startupState;
+    private final ApplicationAvailability applicationAvailability;
+
+    private static final int HISTORY_PAGE_SIZE = 10;
+
+    @Value("${kakao.block.history:}")
+    private String historyBlockId;
+
+    @Value("${kakao.block.rate:}")
+    private String rateBlockId;
 
     /**
      * 메뉴 추천 엔드포인트
@@ -37,33 +78,40 @@ public class KakaoController {
         // 점심/저녁 구분
         MealType mealType = determineMealType(utterance);
 
-        // 메뉴 추천
-        List<MenuRecommendationDto> recommendations = recommendationService.recommendMenus(userId, 3);
+        // 추천 조건 (매운 정도, 칼로리, 카테고리)
+        MenuConstraint constraint = constraintParser.parse(utterance);
+
+        // 미리 계산한 추천 우선 (조건 없는 요청만), 없으면 바로 계산
+        List<MenuRecommendationDto> recommendations = constraint.isEmpty()
+                ? precomputedStore.find(userId, mealType)
+                        .map(precomputed -> precomputed.subList(0, Math.min(3, precomputed.size())))
+                        .orElse(null)
+                : null;
+
+        // 메뉴 추천 (DB 장애 시 메모리의 인기 메뉴로 대체)
+        if (recommendations == null) {
+            try {
+                recommendations = recommendationService.recommendMenus(userId, 3, mealType, constraint);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Recommendation failed, serving trending menus - userId: {}", userId, e);
+                recommendations = recommendationService.recommendTrending(3, mealType, constraint);
+            }
+        }
 
         log.info("Received {} recommendations", recommendations.size());
 
         if (recommendations.isEmpty()) {
             log.warn("No recommendations available");
-            return ResponseEntity.ok(
-                    KakaoResponse.createSimpleText("죄송합니다. 추천할 메뉴가 없습니다.")
-            );
+            return ResponseEntity.ok(constraint.isEmpty()
+                    ? KakaoMessages.NO_RECOMMENDATION
+                    : KakaoMessages.NO_MATCHING_MENU);
         }
 
         // 추천 결과 포매팅
-        StringBuilder response = new StringBuilder();
-        response.append(String.format("🍽️ %s 추천 메뉴입니다!\n\n", mealType.getDescription()));
-
-        for (int i = 0; i < recommendations.size(); i++) {
-            MenuRecommendationDto rec = recommendations.get(i);
-            log.debug("Recommendation {}: {} ({})", i+1, rec.getMenuName(), rec.getCategory());
-            response.append(String.format("%d. %s (%s)\n",
-                    i + 1, rec.getMenuName(), rec.getCategory()));
-
-            if (rec.getRecommendationReason() != null && !rec.getRecommendationReason().isEmpty()) {
-                response.append(String.format("   💡 %s\n", rec.getRecommendationReason()));
-            }
-            response.append("\n");
-        }
+        String title = constraint.isEmpty()
+                ? "🍽️ " + mealType.getDescription() + " 추천 메뉴입니다!"
+                : "🍽️ " + mealType.getDescription() + " 추천 메뉴입니다! (" + constraint.describe() + ")";
+        StringBuilder response = formatRecommendations(title, recommendations);
 
         String responseText = response.toString();
         log.info("Response text length: {}", responseText.length());
@@ -75,10 +123,69 @@ public class KakaoController {
             return ResponseEntity.ok(kakaoResponse);
         } catch (Exception e) {
             log.error("Error creating KakaoResponse", e);
-            return ResponseEntity.ok(
-                    KakaoResponse.createSimpleText("응답 생성 중 오류가 발생했습니다.")
-            );
+            return ResponseEntity.ok(KakaoMessages.RESPONSE_ERROR);
+        }
+    }
+
+    /**
+     * 그룹 메뉴 추천 엔드포인트
+     * - action.params.members: 쉼표로 구분한 구성원 ID
+     * - action.params.group: 요청자가 저장한 그룹 이름
+     */
+    @PostMapping(value = "/recommend/group", produces = "application/json;charset=UTF-8")
+    public ResponseEntity<KakaoResponse> recommendGroupMenu(@RequestBody KakaoRequest request) {
+        String userId = request.getUserRequest().getUser().getId();
+        String utterance = request.getUserRequest().getUtterance();
+        String groupName = getParam(request, "group");
+
+        List<String> memberIds = groupRecommendationService.resolveMembers(
+                userId, groupName, splitMemberIds(getParam(request, "members")));
+
+        log.info("Group recommendation request - userId: {}, group: {}, members: {}",
+                userId, groupName, memberIds.size());
+
+        MealType mealType = determineMealType(utterance);
+        MenuConstraint constraint = constraintParser.parse(utterance);
+        List<MenuRecommendationDto> recommendations =
+                groupRecommendationService.recommendMenus(memberIds, 3, mealType, constraint);
+
+        if (recommendations.isEmpty()) {
+            return ResponseEntity.ok(constraint.isEmpty()
+                    ? KakaoMessages.NO_RECOMMENDATION
+                    : KakaoMessages.NO_MATCHING_MENU);
+        }
+
+        String title = constraint.isEmpty()
+                ? "👥 " + memberIds.size() + "명 " + mealType.getDescription() + " 추천 메뉴입니다!"
+                : "👥 " + memberIds.size() + "명 " + mealType.getDescription() + " 추천 메뉴입니다! (" + constraint.describe() + ")";
+        return ResponseEntity.ok(KakaoResponse.createSimpleText(formatRecommendations(title, recommendations).toString()));
+    }
+
+    /**
+     * 그룹 저장 엔드포인트 (action.params.group, action.params.members)
+     * 그룹은 요청자 소유로 저장되며, 구성원 교체도 소유자만 할 수 있습니다
+     */
+    @PostMapping(value = "/group", produces = "application/json;charset=UTF-8")
+    public ResponseEntity<KakaoResponse> saveGroup(@RequestBody KakaoRequest request) {
+        String userId = request.getUserRequest().getUser().getId();
+        String groupName = getParam(request, "group");
+
+        if (groupName == null || groupName.isBlank()) {
+            return ResponseEntity.ok(KakaoMessages.GROUP_NAME_REQUIRED);
         }
+
+        List<String> memberIds = new ArrayList<>();
+        memberIds.add(userId);
+        memberIds.addAll(splitMemberIds(getParam(request, "members")));
+
+        UserGroup group = groupRecommendationService.saveGroup(userId, groupName.trim(), memberIds);
+
+        log.info("Group saved - owner: {}, name: {}, members: {}",
+                userId, group.getName(), group.getMemberIds().size());
+
+        return ResponseEntity.ok(KakaoResponse.createSimpleText(
+                "👥 '" + group.getName() + "' 그룹을 저장했어요! (" + group.getMemberIds().size() + "명)"
+        ));
     }
 
     /**
@@ -92,77 +199,152 @@ public class KakaoController {
         log.info("Record request - userId: {}, utterance: {}", userId, utterance);
 
         try {
-            // 개선된 파서 사용
-            MessageParser.ParsedMeal parsed = messageParser.parseMealMessage(utterance);
-
-            if (parsed == null || parsed.menuName == null) {
-                return ResponseEntity.ok(
-                        KakaoResponse.createSimpleText(
-                                "메뉴 이름을 찾을 수 없어요 😅\n\n" +
-                                        "이렇게 말씀해주세요:\n" +
-                                        "• \"김치찌개 먹었어\"\n" +
-                                        "• \"점심에 파스타\"\n" +
-                                        "• \"저녁 먹었어 돈카츠\""
-                        )
-                );
+            // 개선된 파서 사용 (한 발화에 여러 메뉴 가능)
+            List<MessageParser.ParsedMeal> parsed = messageParser.parseMealMessages(utterance);
+
+            if (parsed.isEmpty()) {
+                return ResponseEntity.ok(KakaoMessages.RECORD_HELP);
+            }
+
+            // 식사 기록 저장 (한 트랜잭션, 배치 insert)
+            List<MealHistory> histories;
+            try {
+                histories = recommendationService.recordMeals(userId, parsed);
+            } catch (DataIntegrityViolationException e) {
+                // 같은 사용자의 동시 기록이 선호도/메뉴 행을 먼저 만든 경우 - 전체가 롤백됐으므로
+                // 한 번 더 기록하면 이미 있는 행을 갱신함
+                log.debug("Concurrent record conflict, retrying - userId: {}", userId);
+                histories = recommendationService.recordMeals(userId, parsed);
             }
 
-            // 식사 기록 저장
-            MealHistory history = recommendationService.recordMeal(
-                    userId,
-                    parsed.menuName,
-                    parsed.mealType,
-                    null
-            );
+            if (histories.size() == 1) {
+                MealHistory history = histories.get(0);
+                String response = String.format(
+                        "✅ 기록 완료!\n\n" +
+                                "%s에 '%s' 드셨군요.\n" +
+                                "다음 추천에 반영할게요! 😊\n" +
+                                "맛은 어떠셨어요? ⭐ 눌러서 평가해주세요",
+                        history.getMealType().getDescription(),
+                        history.getMenu().getName()
+                );
+
+                return ResponseEntity.ok(KakaoResponse.createSimpleText(response, ratingQuickReplies(history.getId())));
+            }
 
-            String response = String.format(
-                    "✅ 기록 완료!\n\n" +
-                            "%s에 '%s' 드셨군요.\n" +
-                            "다음 추천에 반영할게요! 😊",
-                    parsed.mealType.getDescription(),
-                    history.getMenu().getName()
-            );
+            StringBuilder response = new StringBuilder("✅ 기록 완료!\n\n");
+            for (MealHistory history : histories) {
+                response.append("• ").append(history.getMealType().getDescription())
+                        .append(" - ").append(history.getMenu().getName()).append('\n');
+            }
+            response.append("\n").append(histories.size()).append("개 메뉴를 기록했어요. 다음 추천에 반영할게요! 😊");
 
-            return ResponseEntity.ok(KakaoResponse.createSimpleText(response));
+            return ResponseEntity.ok(KakaoResponse.createSimpleText(response.toString()));
 
         } catch (Exception e) {
             log.error("Error recording meal", e);
-            return ResponseEntity.ok(
-                    KakaoResponse.createSimpleText(
-                            "기록 중 오류가 발생했어요 😭\n다시 시도해주세요!"
-                    )
-            );
+            return ResponseEntity.ok(KakaoMessages.RECORD_ERROR);
         }
     }
 
     /**
-     * 최근 식사 이력 조회
+     * 식사 평점 기록 엔드포인트
+     * - 평점: clientExtra.rating > action.params.rating > 발화 속 숫자 (1-5)
+     * - 대상: clientExtra.historyId, 없으면 가장 최근 식사
+     */
+    @PostMapping(value = "/rate", produces = "application/json;charset=UTF-8")
+    public ResponseEntity<KakaoResponse> rateMeal(@RequestBody KakaoRequest request) {
+        String userId = request.getUserRequest().getUser().getId();
+        String utterance = request.getUserRequest().getUtterance();
+
+        Integer rating = parseRating(getClientExtra(request, "rating"));
+        if (rating == null) {
+            rating = parseRating(getParam(request, "rating"));
+        }
+        if (rating == null) {
+            rating = parseRating(utterance);
+        }
+
+        log.info("Rate request - userId: {}, rating: {}", userId, rating);
+
+        if (!RatingService.isValid(rating)) {
+            return ResponseEntity.ok(KakaoMessages.RATE_HELP);
+        }
+
+        Long historyId = parseLong(getClientExtra(request, "historyId"));
+        Optional<MealHistory> rated = ratingService.rateMeal(userId, historyId, rating);
+
+        if (rated.isEmpty()) {
+            return ResponseEntity.ok(KakaoMessages.RATE_NO_MEAL);
+        }
+
+        return ResponseEntity.ok(KakaoResponse.createSimpleText(
+                "⭐ " + rating + "점으로 기록했어요!\n" +
+                        "'" + rated.get().getMenu().getName() + "' 평가가 다음 추천에 반영돼요 😊"
+        ));
+    }
+
+    /**
+     * 식사 이력 조회 ("더 보기" 바로가기로 다음 페이지 조회)
      */
     @PostMapping(value = "/history", produces = "application/json;charset=UTF-8")
     public ResponseEntity<KakaoResponse> getHistory(@RequestBody KakaoRequest request) {
         String userId = request.getUserRequest().getUser().getId();
+        String cursor = getClientExtra(request, "cursor");
 
-        log.info("History request - userId: {}", userId);
+        log.info("History request - userId: {}, cursor: {}", userId, cursor);
 
-        List<MealHistory> recentMeals = recommendationService.getRecentMeals(userId, 7);
+        MealHistoryPageDto page = recommendationService.getHistoryPage(userId, cursor, HISTORY_PAGE_SIZE);
 
-        if (recentMeals.isEmpty()) {
-            return ResponseEntity.ok(
-                    KakaoResponse.createSimpleText("아직 기록된 식사가 없습니다.")
-            );
+        if (page.getMeals().isEmpty()) {
+            return ResponseEntity.ok(page.isFirstPage() ? KakaoMessages.HISTORY_EMPTY : KakaoMessages.HISTORY_END);
         }
 
-        StringBuilder response = new StringBuilder("📊 최근 7일 식사 기록\n\n");
+        StringBuilder response = new StringBuilder(page.isFirstPage()
+                ? "📊 최근 식사 기록\n\n"
+                : "📊 이전 식사 기록\n\n");
 
-        recentMeals.stream()
-                .limit(10)
-                .forEach(meal -> {
-                    response.append(String.format("• %s - %s (%s)\n",
-                            meal.getEatenAt().toLocalDate(),
-                            meal.getMenu().getName(),
-                            meal.getMealType().getDescription()
-                    ));
-                });
+        for (MealHistoryDto meal : page.getMeals()) {
+            response.append("• ").append(meal.getEatenAt().toLocalDate())
+                    .append(" - ").append(meal.getMenuName())
+                    .append(" (").append(meal.getMealType().getDescription()).append(")\n");
+        }
+
+        List<QuickReply> quickReplies = List.of();
+        if (page.getNextCursor() != null) {
+            if (historyBlockId.isBlank()) {
+                // 블록 ID 가 없으면 바로가기를 만들 수 없음 (kakao.block.history 설정 필요)
+                log.debug("More history available but kakao.block.history is not set - userId: {}", userId);
+            } else {
+                quickReplies = List.of(
+                        QuickReply.block("더 보기", historyBlockId, Map.of("cursor", page.getNextCursor()))
+                );
+            }
+        }
+
+        return ResponseEntity.ok(KakaoResponse.createSimpleText(response.toString(), quickReplies));
+    }
+
+    /**
+     * 식사 통계 (이번 주 / 이번 달, 연속 기록) - 미리 합산된 일/주/월 행만 조회
+     */
+    @PostMapping(value = "/stats", produces = "application/json;charset=UTF-8")
+    public ResponseEntity<KakaoResponse> getStats(@RequestBody KakaoRequest request) {
+        String userId = request.getUserRequest().getUser().getId();
+
+        log.info("Stats request - userId: {}", userId);
+
+        MealStatsReportDto report = mealStatsService.getReport(userId, LocalDate.now());
+
+        if (report.getMonth().getMealCount() == 0) {
+            return ResponseEntity.ok(KakaoMessages.STATS_EMPTY);
+        }
+
+        StringBuilder response = new StringBuilder(256);
+        appendStats(response, "📊 이번 주", report.getWeek());
+        response.append('\n');
+        appendStats(response, "📅 이번 달", report.getMonth());
+        response.append('\n').append("🔥 연속 기록 ").append(report.getCurrentStreak()).append("일")
+                .append(" (이번 달 최장 ").append(report.getMonth().getLongestStreak()).append("일)");
 
         return ResponseEntity.ok(KakaoResponse.createSimpleText(response.toString()));
     }
@@ -172,11 +354,129 @@ public class KakaoController {
      */
     @GetMapping("/health")
     public ResponseEntity<String> health() {
-        return ResponseEntity.ok("Menu Bot is running! (Improved Version)");
+        // 기동 준비(카탈로그 로딩, 워밍업)가 끝나기 전에는 503
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Menu Bot is warming up");
+        }
+        return ResponseEntity.ok("Menu Bot is running! (Improved Version)\n" + startupState.describe());
     }
 
     // === 유틸리티 메서드 ===
 
+    private void appendStats(StringBuilder response, String title, MealStatsDto stats) {
+        response.append(title).append(" - 식사 ").append(stats.getMealCount()).append("회\n");
+        if (stats.getMealCount() == 0) {
+            return;
+        }
+
+        if (stats.getAverageCalories() != null) {
+            response.append("• 칼로리 ").append(stats.getTotalCalories()).append("kcal")
+                    .append(" (평균 ").append(stats.getAverageCalories()).append("kcal)\n");
+        }
+        if (stats.getAverageSpicyLevel() != null) {
+            response.append("• 평균 매운 정도 ").append(String.format("%.1f", stats.getAverageSpicyLevel())).append("/5\n");
+        }
+
+        StringBuilder categories = new StringBuilder();
+        stats.getCategoryCounts().forEach((category, count) -> {
+            if (!categories.isEmpty()) {
+                categories.append(", ");
+            }
+            categories.append(category).append(' ').append(count);
+        });
+        response.append("• 카테고리: ").append(categories).append('\n');
+    }
+
+    private StringBuilder formatRecommendations(String title, List<MenuRecommendationDto> recommendations) {
+        StringBuilder response = new StringBuilder(256);
+        response.append(title).append("\n\n");
+
+        for (int i = 0; i < recommendations.size(); i++) {
+            MenuRecommendationDto rec = recommendations.get(i);
+            log.debug("Recommendation {}: {} ({})", i+1, rec.getMenuName(), rec.getCategory());
+            response.append(i + 1).append(". ").append(rec.getMenuName())
+                    .append(" (").append(rec.getCategory()).append(")\n");
+
+            if (rec.getRecommendationReason() != null && !rec.getRecommendationReason().isEmpty()) {
+                response.append("   💡 ").append(rec.getRecommendationReason()).append('\n');
+            }
+            response.append('\n');
+        }
+        return response;
+    }
+
+    private List<QuickReply> ratingQuickReplies(Long historyId) {
+        List<QuickReply> quickReplies = new ArrayList<>(RatingService.MAX_RATING);
+        for (int rating = RatingService.MIN_RATING; rating <= RatingService.MAX_RATING; rating++) {
+            String label = "⭐" + rating;
+            quickReplies.add(rateBlockId.isBlank()
+                    ? QuickReply.message(label)
+                    : QuickReply.block(label, rateBlockId, Map.of("rating", rating, "historyId", historyId)));
+        }
+        return quickReplies;
+    }
+
+    /**
+     * 처음 나오는 숫자 전체를 평점으로 ("10점" 은 10 - 범위 밖이라 평점 안내로 이어짐)
+     */
+    private Integer parseRating(String value) {
+        if (value == null) {
+            return null;
+        }
+        int start = 0;
+        while (start < value.length() && !Character.isDigit(value.charAt(start))) {
+            start++;
+        }
+        if (start == value.length()) {
+            return null;
+        }
+        int end = start;
+        while (end < value.length() && Character.isDigit(value.charAt(end))) {
+            end++;
+        }
+        // 자릿수가 많으면 어차피 범위 밖 (int 넘침 방지)
+        if (end - start > 2) {
+            return Integer.MAX_VALUE;
+        }
+        return Integer.parseInt(value, start, end, 10);
+    }
+
+    private Long parseLong(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String getParam(KakaoRequest request, String key) {
+        if (request.getAction() == null || request.getAction().getParams() == null) {
+            return null;
+        }
+        Object value = request.getAction().getParams().get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private List<String> splitMemberIds(String members) {
+        if (members == null || members.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(members.split("[,\\s]+"))
+                .filter(id -> !id.isBlank())
+                .toList();
+    }
+
+    private String getClientExtra(KakaoRequest request, String key) {
+        if (request.getAction() == null || request.getAction().getClientExtra() == null) {
+            return null;
+        }
+        Object value = request.getAction().getClientExtra().get(key);
+        return value != null ? value.toString() : null;
+    }
+
     private MealType determineMealType(String utterance) {
         if (utterance.contains("점심") || utterance.contains("런치")) {
             return MealType.LUNCH;
@@ -185,7 +485,6 @@ public class KakaoController {
         }
 
         // 기본값: 현재 시간 기준으로 판단
-        int hour = LocalTime.now().getHour();
-        return (hour >= 11 && hour < 15) ? MealType.LUNCH : MealType.DINNER;
+        return MealType.at(LocalTime.now());
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.menubot.menubot.kakao.converter;
+
+import com.menubot.menubot.kakao.dto.response.KakaoJsonWriter;
+import com.menubot.menubot.kakao.dto.response.KakaoResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * KakaoResponse 전용 컨버터
+ * - 고정 응답: 미리 인코딩된 바이트를 그대로 기록
+ * - 동적 응답: KakaoJsonWriter 로 응답 본문에 바로 스트리밍
+ */
+@Component
+public class KakaoResponseHttpMessageConverter extends AbstractHttpMessageConverter<KakaoResponse> {
+
+    public KakaoResponseHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return KakaoResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected KakaoResponse readInternal(Class<? extends KakaoResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("KakaoResponse is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(KakaoResponse response, MediaType contentType) {
+        int length = response.encodedLength();
+        return length >= 0 ? (long) length : null;
+    }
+
+    @Override
+    protected void writeInternal(KakaoResponse response, HttpOutputMessage outputMessage) throws IOException {
+        if (response.writeEncodedTo(outputMessage.getBody())) {
+            return;
+        }
+        KakaoJsonWriter.write(response, outputMessage.getBody());
+    }
+}
@@ -0,0 +1,37 @@
+package com.menubot.menubot.kakao.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Getter
+@ToString
+@EqualsAndHashCode
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class QuickReply {
+
+    private final String label;
+    private final String action; // message, block
+    private final String messageText;
+    private final String blockId;
+    private final Map<String, Object> extra; // 블록 호출 시 clientExtra 로 전달됨 (변경 불가 복사본)
+
+    private QuickReply(String label, String action, String messageText, String blockId, Map<String, Object> extra) {
+        this.label = label;
+        this.action = action;
+        this.messageText = messageText;
+        this.blockId = blockId;
+        this.extra = extra != null ? Map.copyOf(extra) : null;
+    }
+
+    public static QuickReply message(String label) {
+        return new QuickReply(label, "message", label, null, null);
+    }
+
+    public static QuickReply block(String label, String blockId, Map<String, Object> extra) {
+        return new QuickReply(label, "block", label, blockId, extra);
+    }
+}
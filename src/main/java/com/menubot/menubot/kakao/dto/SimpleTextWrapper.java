@@ -2,24 +2,28 @@ package com.menubot.menubot.kakao.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
-@Data
-@Builder
-@NoArgsConstructor
+@Getter
+@ToString
+@EqualsAndHashCode
 @AllArgsConstructor
-public class SimpleTextWrapper {
+public final class SimpleTextWrapper implements SkillOutput {
 
     @JsonProperty("simpleText")
-    private SimpleTextContent simpleText;
+    private final SimpleTextContent simpleText;
 
-    @Data
-    @Builder
-    @NoArgsConstructor
+    public static SimpleTextWrapper of(String text) {
+        return new SimpleTextWrapper(new SimpleTextContent(text));
+    }
+
+    @Getter
+    @ToString
+    @EqualsAndHashCode
     @AllArgsConstructor
-    public static class SimpleTextContent {
-        private String text;
+    public static final class SimpleTextContent {
+        private final String text;
     }
 }
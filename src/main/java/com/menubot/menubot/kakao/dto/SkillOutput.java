@@ -0,0 +1,7 @@
+package com.menubot.menubot.kakao.dto;
+
+/**
+ * 스킬 응답 출력 요소 (simpleText, 이후 carousel 등 추가)
+ */
+public sealed interface SkillOutput permits SimpleTextWrapper {
+}
@@ -1,31 +1,24 @@
 package com.menubot.menubot.kakao.dto;
 
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import java.util.ArrayList;
-import java.util.List;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class Template {
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
-    @Builder.Default
-    private List<Object> outputs = new ArrayList<>();
+import java.util.List;
 
-    @Builder.Default
-    private List<Object> quickReplies = new ArrayList<>();
+/**
+ * 스킬 응답 템플릿 (불변 - 목록은 생성 시 복사)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class Template {
 
-    public Template addOutput(Object output) {
-        this.outputs.add(output);
-        return this;
-    }
+    private final List<SkillOutput> outputs;
+    private final List<QuickReply> quickReplies;
 
-    public Template addQuickReply(Object quickReply) {
-        this.quickReplies.add(quickReply);
-        return this;
+    public Template(List<SkillOutput> outputs, List<QuickReply> quickReplies) {
+        this.outputs = outputs != null ? List.copyOf(outputs) : List.of();
+        this.quickReplies = quickReplies != null ? List.copyOf(quickReplies) : List.of();
     }
-}
\ No newline at end of file
+}
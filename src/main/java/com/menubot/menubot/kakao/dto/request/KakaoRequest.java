@@ -40,5 +40,6 @@ public class KakaoRequest {
         private String id;
         private String name;
         private Map<String, Object> params;
+        private Map<String, Object> clientExtra; // 바로가기(quickReply) extra
     }
 }
\ No newline at end of file
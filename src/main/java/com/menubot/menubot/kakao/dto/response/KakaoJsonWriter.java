@@ -0,0 +1,175 @@
+package com.menubot.menubot.kakao.dto.response;
+
+import com.menubot.menubot.kakao.dto.QuickReply;
+import com.menubot.menubot.kakao.dto.SimpleTextWrapper;
+import com.menubot.menubot.kakao.dto.SkillOutput;
+import com.menubot.menubot.kakao.dto.Template;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카카오 스킬 응답 JSON 스트리밍 직렬화
+ * (응답 모델이 고정되어 있어 ObjectMapper 의 다형성 직렬화기 탐색 없이 바로 씀)
+ */
+public final class KakaoJsonWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private KakaoJsonWriter() {
+    }
+
+    /**
+     * 응답을 UTF-8 JSON 으로 스트림에 기록합니다 (스트림은 닫지 않음)
+     */
+    public static void write(KakaoResponse response, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeResponse(response, writer);
+        writer.flush();
+    }
+
+    /**
+     * 응답을 UTF-8 JSON 바이트로 인코딩합니다 (고정 응답 캐싱용)
+     */
+    public static byte[] encode(KakaoResponse response) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try {
+            write(response, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeResponse(KakaoResponse response, Writer w) throws IOException {
+        w.write("{\"version\":");
+        writeString(response.getVersion(), w);
+        w.write(",\"template\":");
+        writeTemplate(response.getTemplate(), w);
+        w.write('}');
+    }
+
+    private static void writeTemplate(Template template, Writer w) throws IOException {
+        if (template == null) {
+            w.write("null");
+            return;
+        }
+
+        w.write("{\"outputs\":[");
+        List<SkillOutput> outputs = template.getOutputs();
+        for (int i = 0; i < outputs.size(); i++) {
+            if (i > 0) {
+                w.write(',');
+            }
+            writeOutput(outputs.get(i), w);
+        }
+
+        w.write("],\"quickReplies\":[");
+        List<QuickReply> quickReplies = template.getQuickReplies();
+        for (int i = 0; i < quickReplies.size(); i++) {
+            if (i > 0) {
+                w.write(',');
+            }
+            writeQuickReply(quickReplies.get(i), w);
+        }
+        w.write("]}");
+    }
+
+    private static void writeOutput(SkillOutput output, Writer w) throws IOException {
+        switch (output) {
+            case SimpleTextWrapper simpleText -> {
+                w.write("{\"simpleText\":{\"text\":");
+                writeString(simpleText.getSimpleText().getText(), w);
+                w.write("}}");
+            }
+        }
+    }
+
+    private static void writeQuickReply(QuickReply quickReply, Writer w) throws IOException {
+        w.write("{\"label\":");
+        writeString(quickReply.getLabel(), w);
+        writeOptionalField("action", quickReply.getAction(), w);
+        writeOptionalField("messageText", quickReply.getMessageText(), w);
+        writeOptionalField("blockId", quickReply.getBlockId(), w);
+
+        Map<String, Object> extra = quickReply.getExtra();
+        if (extra != null) {
+            w.write(",\"extra\":{");
+            boolean first = true;
+            for (Map.Entry<String, Object> entry : extra.entrySet()) {
+                if (!first) {
+                    w.write(',');
+                }
+                first = false;
+                writeString(entry.getKey(), w);
+                w.write(':');
+                writeValue(entry.getValue(), w);
+            }
+            w.write('}');
+        }
+        w.write('}');
+    }
+
+    private static void writeOptionalField(String name, String value, Writer w) throws IOException {
+        if (value == null) {
+            return;
+        }
+        w.write(",\"");
+        w.write(name);
+        w.write("\":");
+        writeString(value, w);
+    }
+
+    private static void writeValue(Object value, Writer w) throws IOException {
+        if (value == null) {
+            w.write("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            w.write(value.toString());
+        } else {
+            writeString(value.toString(), w);
+        }
+    }
+
+    private static void writeString(String value, Writer w) throws IOException {
+        if (value == null) {
+            w.write("null");
+            return;
+        }
+
+        w.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+
+            // 이스케이프가 필요 없는 구간은 한 번에 기록
+            w.write(value, start, i - start);
+            start = i + 1;
+
+            switch (c) {
+                case '"' -> w.write("\\\"");
+                case '\\' -> w.write("\\\\");
+                case '\n' -> w.write("\\n");
+                case '\r' -> w.write("\\r");
+                case '\t' -> w.write("\\t");
+                default -> {
+                    w.write("\\u00");
+                    w.write(HEX[c >> 4]);
+                    w.write(HEX[c & 0xF]);
+                }
+            }
+        }
+        w.write(value, start, value.length() - start);
+        w.write('"');
+    }
+}
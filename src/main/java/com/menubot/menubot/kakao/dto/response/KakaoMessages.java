@@ -0,0 +1,48 @@
+package com.menubot.menubot.kakao.dto.response;
+
+/**
+ * 고정 문구 응답 (기동 시 한 번 인코딩)
+ */
+public final class KakaoMessages {
+
+    public static final KakaoResponse NO_RECOMMENDATION =
+            KakaoResponse.preEncodedSimpleText("죄송합니다. 추천할 메뉴가 없습니다.");
+
+    public static final KakaoResponse NO_MATCHING_MENU =
+            KakaoResponse.preEncodedSimpleText("조건에 맞는 메뉴가 없어요 😅\n조건을 바꿔서 다시 물어봐주세요!");
+
+    public static final KakaoResponse RESPONSE_ERROR =
+            KakaoResponse.preEncodedSimpleText("응답 생성 중 오류가 발생했습니다.");
+
+    public static final KakaoResponse RECORD_HELP = KakaoResponse.preEncodedSimpleText(
+            "메뉴 이름을 찾을 수 없어요 😅\n\n" +
+                    "이렇게 말씀해주세요:\n" +
+                    "• \"김치찌개 먹었어\"\n" +
+                    "• \"점심에 파스타\"\n" +
+                    "• \"저녁 먹었어 돈카츠\""
+    );
+
+    public static final KakaoResponse RECORD_ERROR =
+            KakaoResponse.preEncodedSimpleText("기록 중 오류가 발생했어요 😭\n다시 시도해주세요!");
+
+    public static final KakaoResponse HISTORY_EMPTY =
+            KakaoResponse.preEncodedSimpleText("아직 기록된 식사가 없습니다.");
+
+    public static final KakaoResponse HISTORY_END =
+            KakaoResponse.preEncodedSimpleText("더 이상 기록된 식사가 없습니다.");
+
+    public static final KakaoResponse GROUP_NAME_REQUIRED =
+            KakaoResponse.preEncodedSimpleText("그룹 이름을 알려주세요 👥");
+
+    public static final KakaoResponse RATE_HELP =
+            KakaoResponse.preEncodedSimpleText("평점은 1점부터 5점까지 알려주세요 ⭐");
+
+    public static final KakaoResponse RATE_NO_MEAL =
+            KakaoResponse.preEncodedSimpleText("평가할 식사 기록이 없어요 😅\n먼저 드신 메뉴를 기록해주세요!");
+
+    public static final KakaoResponse STATS_EMPTY =
+            KakaoResponse.preEncodedSimpleText("이번 달 기록된 식사가 없어요 📭\n드신 메뉴를 기록하면 통계를 보여드릴게요!");
+
+    private KakaoMessages() {
+    }
+}
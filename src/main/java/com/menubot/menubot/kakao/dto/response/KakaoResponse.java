@@ -1,36 +1,86 @@
 package com.menubot.menubot.kakao.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.menubot.menubot.kakao.dto.QuickReply;
 import com.menubot.menubot.kakao.dto.SimpleTextWrapper;
 import com.menubot.menubot.kakao.dto.Template;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class KakaoResponse {
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
-    private String version;
-    private Template template;
+/**
+ * 카카오 스킬 응답 (불변 - 고정 응답은 여러 요청이 같은 인스턴스를 공유함)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class KakaoResponse {
+
+    private final String version;
+    private final Template template;
+
+    /**
+     * 미리 인코딩된 UTF-8 JSON (고정 문구 응답만 보유)
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final byte[] encoded;
+
+    private KakaoResponse(String version, Template template, byte[] encoded) {
+        this.version = version;
+        this.template = template;
+        this.encoded = encoded;
+    }
 
     public static KakaoResponse createSimpleText(String text) {
-        SimpleTextWrapper.SimpleTextContent content = SimpleTextWrapper.SimpleTextContent.builder()
-                .text(text)
-                .build();
+        return createSimpleText(text, List.of());
+    }
 
-        SimpleTextWrapper wrapper = SimpleTextWrapper.builder()
-                .simpleText(content)
-                .build();
+    public static KakaoResponse createSimpleText(String text, List<QuickReply> quickReplies) {
+        return new KakaoResponse("2.0", new Template(List.of(SimpleTextWrapper.of(text)), quickReplies), null);
+    }
 
-        Template template = new Template();
-        template.getOutputs().add(wrapper);
+    /**
+     * 고정 문구 응답 - 한 번만 직렬화해두고 바이트를 그대로 재사용합니다
+     */
+    public static KakaoResponse preEncodedSimpleText(String text) {
+        KakaoResponse response = createSimpleText(text);
+        return new KakaoResponse(response.version, response.template, KakaoJsonWriter.encode(response));
+    }
+
+    /**
+     * 미리 인코딩된 바이트의 복사본 (없으면 null)
+     */
+    @JsonIgnore
+    public byte[] getEncoded() {
+        return encoded != null ? encoded.clone() : null;
+    }
+
+    /**
+     * 미리 인코딩된 바이트 길이 (없으면 -1)
+     */
+    @JsonIgnore
+    public int encodedLength() {
+        return encoded != null ? encoded.length : -1;
+    }
 
-        return KakaoResponse.builder()
-                .version("2.0")
-                .template(template)
-                .build();
+    /**
+     * 미리 인코딩된 바이트를 복사 없이 스트림에 기록합니다
+     *
+     * @return 기록했으면 true, 미리 인코딩된 바이트가 없으면 false
+     */
+    public boolean writeEncodedTo(OutputStream out) throws IOException {
+        if (encoded == null) {
+            return false;
+        }
+        out.write(encoded);
+        return true;
     }
 }
@@ -0,0 +1,48 @@
+package com.menubot.menubot.kakao.startup;
+
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+/**
+ * 기동 단계 기록 (헬스체크 응답과 로그에 사용)
+ * 메트릭 레지스트리가 없어서 기동 시간 지표는 여기 보관하고 /kakao/health 응답과 기동 로그로 노출
+ */
+@Getter
+@Component
+public class StartupState {
+
+    private volatile boolean warmedUp;
+    private volatile Duration startupTime;  // SpringApplication.run ~ 애플리케이션 준비 (JVM 기동/클래스 로딩 제외)
+    private volatile long jvmReadyMillis;   // JVM 시작 ~ 워밍업 끝
+    private volatile long catalogLoadMillis;
+    private volatile long warmupMillis;
+    private volatile int warmupRequests;     // 성공한 가상 요청 수
+
+    public void markWarmedUp(Duration startupTime, long catalogLoadMillis, long warmupMillis, int warmupRequests) {
+        this.startupTime = startupTime;
+        this.catalogLoadMillis = catalogLoadMillis;
+        this.warmupMillis = warmupMillis;
+        this.warmupRequests = warmupRequests;
+        this.jvmReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        this.warmedUp = true;
+    }
+
+    /**
+     * JVM 시작 ~ 트래픽 수신 가능까지 걸린 시간 (준비 전이면 -1)
+     */
+    public long readyMillis() {
+        return warmedUp ? jvmReadyMillis : -1;
+    }
+
+    public String describe() {
+        if (!warmedUp) {
+            return "warmup: skipped";
+        }
+        return "startup: " + readyMillis() + "ms"
+                + " (context " + startupTime.toMillis() + "ms, catalog " + catalogLoadMillis + "ms"
+                + ", warmup " + warmupMillis + "ms / " + warmupRequests + " requests)";
+    }
+}
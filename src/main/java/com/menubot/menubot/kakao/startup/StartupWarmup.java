@@ -0,0 +1,143 @@
+package com.menubot.menubot.kakao.startup;
+
+import com.menubot.menubot.menu.algorithm.RecommendationAlgorithm;
+import com.menubot.menubot.menu.algorithm.TasteProfile;
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalog;
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.util.parser.ConstraintParser;
+import com.menubot.menubot.menu.util.parser.MessageParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기동 직후 준비 단계 (배포 직후 첫 요청들이 느린 문제)
+ * 1. 카탈로그 로딩 (스냅샷 파일 우선) - 별칭 테이블/초성 트라이 생성
+ * 2. 파서/추천 알고리즘 반복 실행 (JIT 컴파일 유도)
+ * 3. 읽기 전용 스킬 요청을 실제 HTTP 경로로 보내서 JSON 변환/Hibernate 쿼리 초기화
+ * ApplicationReadyEvent 리스너가 끝나야 ReadinessState 가 ACCEPTING_TRAFFIC 이 되므로 그동안 /kakao/health 는 503
+ * 데이터 초기화 리스너(평점/통계 초기화, 동시 섭취 인덱스 로딩)는 LOWEST_PRECEDENCE - 1 로 이 단계보다 먼저 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup {
+
+    private static final List<String> RECOMMEND_UTTERANCES = List.of(
+            "점심 메뉴 추천해줘", "저녁 뭐 먹지", "매운 거 추천해줘", "500칼로리 이하 한식 추천", "안 매운 중식 추천");
+    private static final List<String> MEAL_UTTERANCES = List.of(
+            "점심에 김치찌개 먹었어", "ㄱㅊㅉㄱ랑 공기밥", "점심 라멘, 저녁 피자", "저녁 먹었어 돈카츠");
+    private static final List<String> READ_ENDPOINTS = List.of("/kakao/recommend", "/kakao/history", "/kakao/stats");
+
+    private final MenuCatalog menuCatalog;
+    private final MessageParser messageParser;
+    private final ConstraintParser constraintParser;
+    private final RecommendationAlgorithm recommendationAlgorithm;
+    private final StartupState startupState;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Environment environment;
+
+    @Value("${menubot.warmup.requests:100}")
+    private int requests; // 0 이면 가상 요청 없이 카탈로그만 로딩
+
+    @Value("${menubot.warmup.timeout-ms:30000}")
+    private long timeoutMillis;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp(ApplicationReadyEvent event) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long start = System.nanoTime();
+        long catalogMillis = 0;
+        int succeeded = 0;
+
+        try {
+            CatalogSnapshot catalog = menuCatalog.preload();
+            catalogMillis = (System.nanoTime() - start) / 1_000_000;
+
+            long deadline = start + Duration.ofMillis(timeoutMillis).toNanos();
+            warmUpInProcess(catalog, deadline);
+
+            String port = environment.getProperty("local.server.port");
+            if (port != null) {
+                succeeded = sendSyntheticRequests(Integer.parseInt(port), deadline);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Startup warmup failed, continuing", e);
+        }
+
+        long warmupMillis = (System.nanoTime() - start) / 1_000_000;
+        startupState.markWarmedUp(event.getTimeTaken(), catalogMillis, warmupMillis, succeeded);
+        log.info("Startup warmup finished - {}", startupState.describe());
+        // 리스너가 끝나면 Spring Boot 가 ReadinessState.ACCEPTING_TRAFFIC 발행
+    }
+
+    /**
+     * 파서/점수 계산 경로를 직접 반복 실행 (쓰기 없음)
+     */
+    private void warmUpInProcess(CatalogSnapshot catalog, long deadline) {
+        TasteProfile profile = TasteProfile.empty();
+        MealType[] mealTypes = MealType.values();
+
+        for (int i = 0; i < requests && System.nanoTime() - deadline < 0; i++) {
+            messageParser.parseMealMessages(MEAL_UTTERANCES.get(i % MEAL_UTTERANCES.size()));
+            constraintParser.parse(RECOMMEND_UTTERANCES.get(i % RECOMMEND_UTTERANCES.size()));
+            recommendationAlgorithm.recommend(profile, catalog.getMenus(), 3, mealTypes[i % mealTypes.length]);
+        }
+    }
+
+    /**
+     * 읽기 전용 스킬 요청을 자기 자신에게 보냄 (기록/평가 등 쓰기 요청은 보내지 않음)
+     */
+    private int sendSyntheticRequests(int port, long deadline) {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+
+        int succeeded = 0;
+        for (int i = 0; i < requests && System.nanoTime() - deadline < 0; i++) {
+            String endpoint = READ_ENDPOINTS.get(i % READ_ENDPOINTS.size());
+            String body = skillRequest("warmup-" + (i % 10), RECOMMEND_UTTERANCES.get(i % RECOMMEND_UTTERANCES.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + endpoint))
+                    .timeout(Duration.ofSeconds(5))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                    .build();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() / 100 == 2) {
+                    succeeded++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.debug("Warmup request to {} failed: {}", endpoint, e.getMessage());
+            }
+        }
+        return succeeded;
+    }
+
+    private static String skillRequest(String userId, String utterance) {
+        return "{\"userRequest\":{\"utterance\":\"" + utterance + "\",\"user\":{\"id\":\"" + userId + "\"}},"
+                + "\"action\":{\"params\":{},\"clientExtra\":{}}}";
+    }
+}
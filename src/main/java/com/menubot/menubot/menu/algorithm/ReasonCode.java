@@ -0,0 +1,27 @@
+package com.menubot.menubot.menu.algorithm;
+
+/**
+ * 추천 사유 코드 (점수 계산 시에는 코드만 기록하고 문구는 최종 결과만 렌더링)
+ */
+public enum ReasonCode {
+    FREQUENT_CATEGORY,   // 카테고리 선호 (인자: 카테고리)
+    HIGH_RATING,         // 평점 (인자: 평균 평점)
+    NEW_MENU,            // 안 먹어본 메뉴
+    LONG_TIME_NO_SEE,    // 오래 안 먹은 메뉴 (인자: 경과 일수)
+    LIGHT_LUNCH,         // 가벼운 점심
+    HEARTY_DINNER,       // 든든한 저녁
+    PEOPLE_ALSO_EAT,     // 비슷한 메뉴를 먹은 사람들이 즐겨 먹는 메뉴
+    FAVORITE_MENU,       // 최근까지 자주 먹은 메뉴 (감쇠 선호도)
+    TRENDING,            // 요즘 인기 메뉴
+    FIRST_RECOMMENDATION; // 이력 없는 사용자
+
+    private final int mask = 1 << ordinal();
+
+    public int mask() {
+        return mask;
+    }
+
+    public boolean isIn(int reasonCodes) {
+        return (reasonCodes & mask) != 0;
+    }
+}
@@ -0,0 +1,167 @@
+package com.menubot.menubot.menu.algorithm;
+
+import com.menubot.menubot.menu.dto.MenuRecommendationDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 추천 사유 문구 렌더러
+ * - 템플릿은 기동 시 한 번 파싱해서 (문자열 조각, 인자) 배열로 보관
+ * - 로케일별 템플릿 지원 (없으면 한국어)
+ */
+@Component
+public class ReasonRenderer {
+
+    private static final String SEPARATOR = " | ";
+
+    private final Map<String, Messages> messagesByLanguage = Map.of(
+            Locale.KOREAN.getLanguage(), new Messages(koreanTemplates(), "맛있게 드세요! 😊"),
+            Locale.ENGLISH.getLanguage(), new Messages(englishTemplates(), "Enjoy your meal! 😊")
+    );
+
+    /**
+     * 최종 추천 결과에만 사유 문구를 채웁니다
+     */
+    public void renderAll(List<MenuRecommendationDto> recommendations) {
+        renderAll(recommendations, Locale.KOREAN);
+    }
+
+    public void renderAll(List<MenuRecommendationDto> recommendations, Locale locale) {
+        Messages messages = messagesFor(locale);
+        for (MenuRecommendationDto recommendation : recommendations) {
+            recommendation.setRecommendationReason(render(recommendation, messages));
+        }
+    }
+
+    public String render(MenuRecommendationDto recommendation, Locale locale) {
+        return render(recommendation, messagesFor(locale));
+    }
+
+    private String render(MenuRecommendationDto recommendation, Messages messages) {
+        int reasonCodes = recommendation.getReasonCodes();
+        if (reasonCodes == 0) {
+            return messages.fallback;
+        }
+
+        StringBuilder sb = new StringBuilder(64);
+        for (ReasonCode code : ReasonCode.values()) {
+            if (!code.isIn(reasonCodes)) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(SEPARATOR);
+            }
+            messages.templates.get(code).appendTo(sb, recommendation);
+        }
+        return sb.toString();
+    }
+
+    private Messages messagesFor(Locale locale) {
+        Messages messages = locale != null ? messagesByLanguage.get(locale.getLanguage()) : null;
+        return messages != null ? messages : messagesByLanguage.get(Locale.KOREAN.getLanguage());
+    }
+
+    private static Map<ReasonCode, CompiledTemplate> koreanTemplates() {
+        Map<ReasonCode, CompiledTemplate> templates = new EnumMap<>(ReasonCode.class);
+        templates.put(ReasonCode.FREQUENT_CATEGORY, CompiledTemplate.compile("{category} 자주 드셨네요"));
+        templates.put(ReasonCode.HIGH_RATING, CompiledTemplate.compile("평점 {rating}점"));
+        templates.put(ReasonCode.NEW_MENU, CompiledTemplate.compile("새로운 메뉴 도전!"));
+        templates.put(ReasonCode.LONG_TIME_NO_SEE, CompiledTemplate.compile("{days}일만에 추천"));
+        templates.put(ReasonCode.LIGHT_LUNCH, CompiledTemplate.compile("가벼운 점심"));
+        templates.put(ReasonCode.HEARTY_DINNER, CompiledTemplate.compile("든든한 저녁"));
+        templates.put(ReasonCode.PEOPLE_ALSO_EAT, CompiledTemplate.compile("입맛 비슷한 분들이 즐겨 드세요"));
+        templates.put(ReasonCode.FAVORITE_MENU, CompiledTemplate.compile("요즘 즐겨 드시는 메뉴예요"));
+        templates.put(ReasonCode.TRENDING, CompiledTemplate.compile("요즘 인기 메뉴예요 🔥"));
+        templates.put(ReasonCode.FIRST_RECOMMENDATION, CompiledTemplate.compile("첫 추천이에요! 맛있게 드세요 😊"));
+        return templates;
+    }
+
+    private static Map<ReasonCode, CompiledTemplate> englishTemplates() {
+        Map<ReasonCode, CompiledTemplate> templates = new EnumMap<>(ReasonCode.class);
+        templates.put(ReasonCode.FREQUENT_CATEGORY, CompiledTemplate.compile("You often have {category}"));
+        templates.put(ReasonCode.HIGH_RATING, CompiledTemplate.compile("Rated {rating}"));
+        templates.put(ReasonCode.NEW_MENU, CompiledTemplate.compile("Try something new!"));
+        templates.put(ReasonCode.LONG_TIME_NO_SEE, CompiledTemplate.compile("First time in {days} days"));
+        templates.put(ReasonCode.LIGHT_LUNCH, CompiledTemplate.compile("Light lunch"));
+        templates.put(ReasonCode.HEARTY_DINNER, CompiledTemplate.compile("Hearty dinner"));
+        templates.put(ReasonCode.PEOPLE_ALSO_EAT, CompiledTemplate.compile("Popular with people who share your taste"));
+        templates.put(ReasonCode.FAVORITE_MENU, CompiledTemplate.compile("One of your recent favorites"));
+        templates.put(ReasonCode.TRENDING, CompiledTemplate.compile("Trending now 🔥"));
+        templates.put(ReasonCode.FIRST_RECOMMENDATION, CompiledTemplate.compile("Your first pick! Enjoy 😊"));
+        return templates;
+    }
+
+    private record Messages(Map<ReasonCode, CompiledTemplate> templates, String fallback) {
+    }
+
+    /**
+     * 템플릿 인자
+     */
+    private enum Arg {
+        CATEGORY, RATING, DAYS;
+
+        static Arg of(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+
+        void appendTo(StringBuilder sb, MenuRecommendationDto recommendation) {
+            switch (this) {
+                case CATEGORY -> sb.append(recommendation.getCategory());
+                case RATING -> {
+                    // 소수점 한 자리 (String.format 없이)
+                    long tenths = Math.round(recommendation.getAverageRating() * 10);
+                    sb.append(tenths / 10).append('.').append(tenths % 10);
+                }
+                case DAYS -> sb.append(recommendation.getDaysSinceLastEaten());
+            }
+        }
+    }
+
+    /**
+     * "{인자}" 자리표시자를 미리 분리해둔 템플릿
+     * literals.length == args.length + 1
+     */
+    private static final class CompiledTemplate {
+
+        private final String[] literals;
+        private final Arg[] args;
+
+        private CompiledTemplate(String[] literals, Arg[] args) {
+            this.literals = literals;
+            this.args = args;
+        }
+
+        static CompiledTemplate compile(String template) {
+            List<String> literals = new ArrayList<>();
+            List<Arg> args = new ArrayList<>();
+
+            int start = 0;
+            int open;
+            while ((open = template.indexOf('{', start)) >= 0) {
+                int close = template.indexOf('}', open);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder in template: " + template);
+                }
+                literals.add(template.substring(start, open));
+                args.add(Arg.of(template.substring(open + 1, close)));
+                start = close + 1;
+            }
+            literals.add(template.substring(start));
+
+            return new CompiledTemplate(literals.toArray(String[]::new), args.toArray(Arg[]::new));
+        }
+
+        void appendTo(StringBuilder sb, MenuRecommendationDto recommendation) {
+            for (int i = 0; i < args.length; i++) {
+                sb.append(literals[i]);
+                args[i].appendTo(sb, recommendation);
+            }
+            sb.append(literals[args.length]);
+        }
+    }
+}
@@ -4,146 +4,173 @@ import com.menubot.menubot.menu.dto.MenuRecommendationDto;
 import com.menubot.menubot.menu.entity.MealHistory;
 import com.menubot.menubot.menu.entity.MealType;
 import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.similarity.ItemSimilarityIndex;
+import com.menubot.menubot.menu.similarity.ItemSimilarityStore;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class RecommendationAlgorithm {
 
+    private final ItemSimilarityStore itemSimilarityStore;
+
     /**
      * 사용자의 식사 이력을 바탕으로 메뉴를 추천합니다. (개선 버전)
      */
     public List<MenuRecommendationDto> recommend(List<MealHistory> histories,
                                                  List<Menu> allMenus,
                                                  int count) {
+        return recommend(TasteProfile.from(histories), allMenus, count);
+    }
+
+    /**
+     * 취향 프로필(개인 또는 그룹 병합)로 메뉴를 추천합니다
+     */
+    public List<MenuRecommendationDto> recommend(TasteProfile profile,
+                                                 List<Menu> allMenus,
+                                                 int count) {
+        return recommend(profile, allMenus, count, MealType.at(LocalTime.now()));
+    }
 
-        // 1. 최근 5일간 먹은 메뉴 제외 (3일 → 5일로 확대)
-        LocalDateTime fiveDaysAgo = LocalDateTime.now().minusDays(5);
-        Set<Long> recentMenuIds = histories.stream()
-                .filter(h -> h.getEatenAt().isAfter(fiveDaysAgo))
-                .map(h -> h.getMenu().getId())
-                .collect(Collectors.toSet());
-
-        // 2. 카테고리별 선호도 계산
-        Map<String, Long> categoryPreference = histories.stream()
-                .collect(Collectors.groupingBy(
-                        h -> h.getMenu().getCategory(),
-                        Collectors.counting()
-                ));
-
-        // 3. 메뉴별 평균 평점
-        Map<Long, Double> menuRatings = histories.stream()
-                .filter(h -> h.getRating() != null)
-                .collect(Collectors.groupingBy(
-                        h -> h.getMenu().getId(),
-                        Collectors.averagingInt(MealHistory::getRating)
-                ));
-
-        // 4. 후보 메뉴 점수 계산
-        List<MenuRecommendationDto> candidates = allMenus.stream()
-                .filter(menu -> !recentMenuIds.contains(menu.getId()))
-                .map(menu -> calculateScore(menu, categoryPreference, menuRatings, histories))
+    /**
+     * 지정한 식사 타입 기준으로 추천합니다 (미리 계산하는 배치에서도 사용)
+     */
+    public List<MenuRecommendationDto> recommend(TasteProfile profile,
+                                                 List<Menu> allMenus,
+                                                 int count,
+                                                 MealType mealType) {
+
+        ItemSimilarityIndex similarity = itemSimilarityStore.current();
+
+        // 최근 5일간 먹은 메뉴 제외 후 점수 계산
+        return allMenus.stream()
+                .filter(menu -> !profile.getRecentMenuIds().contains(menu.getId()))
+                .map(menu -> calculateScore(menu, profile, similarity, mealType))
                 .sorted(Comparator.comparingDouble(MenuRecommendationDto::getScore).reversed())
                 .limit(count)
                 .collect(Collectors.toList());
-
-        return candidates;
     }
 
     /**
-     * 개선된 점수 계산
+     * 개선된 점수 계산 (사유는 코드로만 기록, 문구는 ReasonRenderer 가 최종 결과에만 렌더링)
      */
-    private MenuRecommendationDto calculateScore(Menu menu,
-                                                 Map<String, Long> categoryPreference,
-                                                 Map<Long, Double> menuRatings,
-                                                 List<MealHistory> histories) {
+    private MenuRecommendationDto calculateScore(Menu menu, TasteProfile profile,
+                                                 ItemSimilarityIndex similarity, MealType mealType) {
 
         double score = 0.0;
-        StringBuilder reason = new StringBuilder();
+        int reasonCodes = 0;
+        Long daysSinceLastEaten = null;
 
         // 1. 카테고리 선호도 (30%)
-        long categoryCount = categoryPreference.getOrDefault(menu.getCategory(), 0L);
-        if (histories.size() > 0) {
-            double categoryScore = (categoryCount / (double) histories.size()) * 30;
-            score += categoryScore;
-
-            if (categoryCount > 0) {
-                reason.append(String.format("%s 자주 드셨네요 ", menu.getCategory()));
-            }
+        double categoryShare = profile.getCategoryShare().getOrDefault(menu.getCategory(), 0.0);
+        if (categoryShare > 0) {
+            score += categoryShare * 30;
+            reasonCodes |= ReasonCode.FREQUENT_CATEGORY.mask();
         }
 
         // 2. 평점 (25%)
-        Double avgRating = menuRatings.get(menu.getId());
+        Double avgRating = profile.getMenuRatings().get(menu.getId());
         if (avgRating != null) {
             double ratingScore = (avgRating / 5.0) * 25;
             score += ratingScore;
-            reason.append(String.format("| 평점 %.1f점 ", avgRating));
+            reasonCodes |= ReasonCode.HIGH_RATING.mask();
         }
 
-        // 3. 다양성 (30%) - 안 먹어본 메뉴 우대
-        boolean neverEaten = histories.stream()
-                .noneMatch(h -> h.getMenu().getId().equals(menu.getId()));
-        if (neverEaten) {
+        // 3. 다양성 / 즐겨 먹는 메뉴 (30%) - 안 먹어본 메뉴 30점, 먹어본 메뉴는 오래 안 먹음 최대 15점 + 선호 강도 최대 10점
+        LocalDateTime lastEaten = profile.getLastEatenAt().get(menu.getId());
+        if (lastEaten == null) {
             score += 30;
-            reason.append("| 새로운 메뉴 도전! ");
+            reasonCodes |= ReasonCode.NEW_MENU.mask();
         } else {
             // 오래 안 먹은 메뉴 가산점
-            Optional<MealHistory> lastEaten = histories.stream()
-                    .filter(h -> h.getMenu().getId().equals(menu.getId()))
-                    .max(Comparator.comparing(MealHistory::getEatenAt));
-
-            if (lastEaten.isPresent()) {
-                long daysSince = java.time.temporal.ChronoUnit.DAYS.between(
-                        lastEaten.get().getEatenAt().toLocalDate(),
-                        LocalDateTime.now().toLocalDate()
-                );
-                if (daysSince > 10) {
-                    score += 15;
-                    reason.append(String.format("| %d일만에 추천 ", daysSince));
-                } else if (daysSince > 7) {
-                    score += 10;
-                }
+            long daysSince = ChronoUnit.DAYS.between(
+                    lastEaten.toLocalDate(),
+                    LocalDateTime.now().toLocalDate()
+            );
+            if (daysSince > 10) {
+                score += 15;
+                reasonCodes |= ReasonCode.LONG_TIME_NO_SEE.mask();
+                daysSinceLastEaten = daysSince;
+            } else if (daysSince > 7) {
+                score += 10;
+            }
+
+            // 즐겨 먹는 메뉴 - 감쇠 선호도라 예전에만 자주 먹던 메뉴는 점점 약해짐
+            double menuPreference = profile.getMenuPreference().getOrDefault(menu.getId(), 0.0);
+            score += menuPreference * 10;
+            if (menuPreference >= 0.5) {
+                reasonCodes |= ReasonCode.FAVORITE_MENU.mask();
             }
         }
 
-        // 4. 시간대 보너스 (15%)
-        int hour = LocalDateTime.now().getHour();
+        // 4. 식사 타입 보너스 (15%)
+        // 식사 타입은 발화/배치가 정한 값이고, 없으면 MealType.at 추정값(11-15시 점심, 그 외 저녁)이라
+        // 17-21시 밖의 저녁 시간대에도 든든한 저녁 보너스가 붙음
         if (menu.getCalories() != null) {
-            // 점심시간 (11-15시): 가벼운 메뉴 선호
-            if (hour >= 11 && hour < 15 && menu.getCalories() < 500) {
+            // 점심: 가벼운 메뉴 선호
+            if (mealType == MealType.LUNCH && menu.getCalories() < 500) {
                 score += 10;
-                reason.append("| 가벼운 점심 ");
+                reasonCodes |= ReasonCode.LIGHT_LUNCH.mask();
             }
-            // 저녁시간 (17-21시): 든든한 메뉴 선호
-            else if (hour >= 17 && hour < 21 && menu.getCalories() > 500) {
+            // 저녁: 든든한 메뉴 선호
+            else if (mealType == MealType.DINNER && menu.getCalories() > 500) {
                 score += 10;
-                reason.append("| 든든한 저녁 ");
+                reasonCodes |= ReasonCode.HEARTY_DINNER.mask();
             }
         }
 
-        // 5. 랜덤 요소 (변동성)
-        score += new Random().nextDouble() * 5;
-
-        String finalReason = reason.toString().trim();
-        if (finalReason.isEmpty()) {
-            finalReason = "맛있게 드세요! 😊";
+        // 5. 함께 먹는 메뉴 (10%) - 내가 먹은 메뉴를 먹은 사람들이 자주 먹는 메뉴
+        double affinity = similarity.affinity(menu.getId(), profile.getLastEatenAt().keySet());
+        if (affinity > 0) {
+            score += Math.min(affinity, 1.0) * 10;
+            if (affinity >= 0.3) {
+                reasonCodes |= ReasonCode.PEOPLE_ALSO_EAT.mask();
+            }
         }
 
+        // 6. 랜덤 요소 (변동성)
+        score += ThreadLocalRandom.current().nextDouble() * 5;
+
         return MenuRecommendationDto.builder()
                 .menuName(menu.getName())
                 .category(menu.getCategory())
                 .calories(menu.getCalories())
                 .spicyLevel(menu.getSpicyLevel())
                 .score(score)
-                .recommendationReason(finalReason)
+                .reasonCodes(reasonCodes)
+                .averageRating(avgRating)
+                .daysSinceLastEaten(daysSinceLastEaten)
                 .build();
     }
 
+    /**
+     * 인기 메뉴 추천 (이력 없을 때 / DB 장애 시)
+     */
+    public List<MenuRecommendationDto> trendingRecommend(List<Menu> trendingMenus, int count) {
+        List<MenuRecommendationDto> recommendations = new ArrayList<>(Math.min(count, trendingMenus.size()));
+        for (int i = 0; i < trendingMenus.size() && recommendations.size() < count; i++) {
+            Menu menu = trendingMenus.get(i);
+            recommendations.add(MenuRecommendationDto.builder()
+                    .menuName(menu.getName())
+                    .category(menu.getCategory())
+                    .calories(menu.getCalories())
+                    .spicyLevel(menu.getSpicyLevel())
+                    .score(50.0 - i)
+                    .reasonCodes(ReasonCode.TRENDING.mask())
+                    .build());
+        }
+        return recommendations;
+    }
+
     /**
      * 랜덤 추천 (이력 없을 때)
      */
@@ -160,7 +187,7 @@ public class RecommendationAlgorithm {
                 .calories(randomMenu.getCalories())
                 .spicyLevel(randomMenu.getSpicyLevel())
                 .score(50.0)
-                .recommendationReason("첫 추천이에요! 맛있게 드세요 😊")
+                .reasonCodes(ReasonCode.FIRST_RECOMMENDATION.mask())
                 .build();
     }
 }
\ No newline at end of file
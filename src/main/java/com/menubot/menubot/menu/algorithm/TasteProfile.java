@@ -0,0 +1,242 @@
+package com.menubot.menubot.menu.algorithm;
+
+import com.menubot.menubot.menu.entity.MealHistory;
+import com.menubot.menubot.menu.entity.PreferenceScore;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 점수 계산에 필요한 사용자(또는 그룹) 취향 요약
+ * - 후보 메뉴마다 이력을 다시 훑지 않도록 한 번만 집계
+ */
+@Getter
+public class TasteProfile {
+
+    private static final int RECENT_DAYS = 5;
+
+    private final Set<Long> recentMenuIds;            // 최근 5일간 먹은 메뉴 (추천 제외)
+    private final Map<String, Double> categoryShare;  // 카테고리별 비중 (0~1)
+    private final Map<Long, Double> menuRatings;      // 메뉴별 평균 평점
+    private final Map<Long, LocalDateTime> lastEatenAt; // 메뉴별 마지막 식사 시각
+    private final Map<Long, Double> menuPreference;   // 메뉴별 선호 강도 (가장 많이 먹은 메뉴 = 1)
+
+    private TasteProfile(Set<Long> recentMenuIds,
+                         Map<String, Double> categoryShare,
+                         Map<Long, Double> menuRatings,
+                         Map<Long, LocalDateTime> lastEatenAt,
+                         Map<Long, Double> menuPreference) {
+        this.recentMenuIds = recentMenuIds;
+        this.categoryShare = categoryShare;
+        this.menuRatings = menuRatings;
+        this.lastEatenAt = lastEatenAt;
+        this.menuPreference = menuPreference;
+    }
+
+    public static TasteProfile empty() {
+        return new TasteProfile(Set.of(), Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * 식사 이력 한 번 순회로 프로필 생성
+     */
+    public static TasteProfile from(List<MealHistory> histories) {
+        if (histories.isEmpty()) {
+            return empty();
+        }
+
+        LocalDateTime recentSince = LocalDateTime.now().minusDays(RECENT_DAYS);
+        Set<Long> recentMenuIds = new HashSet<>();
+        Map<String, Double> categoryCounts = new HashMap<>();
+        Map<Long, int[]> ratingSums = new HashMap<>(); // [합계, 개수]
+        Map<Long, LocalDateTime> lastEatenAt = new HashMap<>();
+        Map<Long, Double> menuCounts = new HashMap<>();
+
+        for (MealHistory history : histories) {
+            Long menuId = history.getMenu().getId();
+
+            if (history.getEatenAt().isAfter(recentSince)) {
+                recentMenuIds.add(menuId);
+            }
+            categoryCounts.merge(history.getMenu().getCategory(), 1.0, Double::sum);
+            lastEatenAt.merge(menuId, history.getEatenAt(), (a, b) -> a.isAfter(b) ? a : b);
+            menuCounts.merge(menuId, 1.0, Double::sum);
+
+            if (history.getRating() != null) {
+                int[] sum = ratingSums.computeIfAbsent(menuId, id -> new int[2]);
+                sum[0] += history.getRating();
+                sum[1]++;
+            }
+        }
+
+        double total = histories.size();
+        categoryCounts.replaceAll((category, count) -> count / total);
+
+        Map<Long, Double> menuRatings = new HashMap<>();
+        ratingSums.forEach((menuId, sum) -> menuRatings.put(menuId, sum[0] / (double) sum[1]));
+
+        return new TasteProfile(recentMenuIds, categoryCounts, menuRatings, lastEatenAt, relativeToMax(menuCounts));
+    }
+
+    /**
+     * 메뉴별 집계로 프로필 생성 (from 과 같은 결과를 식사 수가 아닌 메뉴 수에 비례해 계산)
+     */
+    public static TasteProfile fromMenuSummaries(List<MenuSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return empty();
+        }
+
+        LocalDateTime recentSince = LocalDateTime.now().minusDays(RECENT_DAYS);
+        Set<Long> recentMenuIds = new HashSet<>();
+        Map<String, Double> categoryCounts = new HashMap<>();
+        Map<Long, Double> menuRatings = new HashMap<>();
+        Map<Long, LocalDateTime> lastEatenAt = new HashMap<>();
+        Map<Long, Double> menuCounts = new HashMap<>();
+        double total = 0.0;
+
+        for (MenuSummary summary : summaries) {
+            if (summary.lastEatenAt().isAfter(recentSince)) {
+                recentMenuIds.add(summary.menuId());
+            }
+            categoryCounts.merge(summary.category(), (double) summary.meals(), Double::sum);
+            lastEatenAt.put(summary.menuId(), summary.lastEatenAt());
+            menuCounts.put(summary.menuId(), (double) summary.meals());
+            if (summary.averageRating() != null) {
+                menuRatings.put(summary.menuId(), summary.averageRating());
+            }
+            total += summary.meals();
+        }
+
+        double meals = total;
+        categoryCounts.replaceAll((category, count) -> count / meals);
+
+        return new TasteProfile(recentMenuIds, categoryCounts, menuRatings, lastEatenAt, relativeToMax(menuCounts));
+    }
+
+    /**
+     * 감쇠 선호도 점수로 프로필 생성 (이력 길이와 무관하게 카테고리 + 메뉴 수에 비례)
+     *
+     * @param scores         사용자의 카테고리/메뉴 선호도 행
+     * @param menuRatings    메뉴별 평균 평점
+     * @param decayPerSecond 감쇠 계수 (ln2 / 반감기)
+     */
+    public static TasteProfile fromPreferences(List<PreferenceScore> scores,
+                                               Map<Long, Double> menuRatings,
+                                               double decayPerSecond) {
+        if (scores.isEmpty()) {
+            return empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime recentSince = now.minusDays(RECENT_DAYS);
+        Set<Long> recentMenuIds = new HashSet<>();
+        Map<String, Double> categoryShare = new HashMap<>();
+        Map<Long, LocalDateTime> lastEatenAt = new HashMap<>();
+        Map<Long, Double> menuScores = new HashMap<>();
+        double categoryTotal = 0.0;
+
+        for (PreferenceScore score : scores) {
+            switch (score.getScope()) {
+                case CATEGORY -> {
+                    double decayed = score.scoreAt(now, decayPerSecond);
+                    categoryShare.put(score.getTargetKey(), decayed);
+                    categoryTotal += decayed;
+                }
+                case MENU -> {
+                    Long menuId = Long.valueOf(score.getTargetKey());
+                    lastEatenAt.put(menuId, score.getLastUpdated());
+                    menuScores.put(menuId, score.scoreAt(now, decayPerSecond));
+                    if (score.getLastUpdated().isAfter(recentSince)) {
+                        recentMenuIds.add(menuId);
+                    }
+                }
+            }
+        }
+
+        if (categoryTotal > 0) {
+            double total = categoryTotal;
+            categoryShare.replaceAll((category, decayed) -> decayed / total);
+        }
+
+        return new TasteProfile(recentMenuIds, categoryShare, menuRatings, lastEatenAt, relativeToMax(menuScores));
+    }
+
+    /**
+     * 가장 큰 값이 1 이 되도록 나눔 (사용자마다 식사 빈도가 달라도 같은 척도로 비교)
+     */
+    private static Map<Long, Double> relativeToMax(Map<Long, Double> values) {
+        double max = 0.0;
+        for (double value : values.values()) {
+            max = Math.max(max, value);
+        }
+        if (max > 0) {
+            double top = max;
+            values.replaceAll((menuId, value) -> value / top);
+        }
+        return values;
+    }
+
+    /**
+     * 여러 사용자 프로필을 하나로 합칩니다 (그룹 추천용)
+     * - 최근 먹은 메뉴: 한 명이라도 먹었으면 제외
+     * - 카테고리 비중/평점: 구성원별 값의 평균 (구성원마다 같은 가중치)
+     * - 메뉴 선호 강도: 구성원 전체 평균 (안 먹어본 구성원은 0)
+     * - 마지막 식사 시각: 가장 최근 값
+     */
+    public static TasteProfile merge(Collection<TasteProfile> profiles) {
+        List<TasteProfile> members = profiles.stream()
+                .filter(profile -> !profile.isEmpty())
+                .toList();
+
+        if (members.isEmpty()) {
+            return empty();
+        }
+
+        Set<Long> recentMenuIds = new HashSet<>();
+        Map<String, Double> categoryShare = new HashMap<>();
+        Map<Long, double[]> ratingSums = new HashMap<>(); // [합계, 인원]
+        Map<Long, LocalDateTime> lastEatenAt = new HashMap<>();
+        Map<Long, Double> menuPreference = new HashMap<>();
+
+        for (TasteProfile member : members) {
+            recentMenuIds.addAll(member.recentMenuIds);
+            member.categoryShare.forEach((category, share) -> categoryShare.merge(category, share, Double::sum));
+            member.menuRatings.forEach((menuId, rating) -> {
+                double[] sum = ratingSums.computeIfAbsent(menuId, id -> new double[2]);
+                sum[0] += rating;
+                sum[1]++;
+            });
+            member.lastEatenAt.forEach((menuId, eatenAt) ->
+                    lastEatenAt.merge(menuId, eatenAt, (a, b) -> a.isAfter(b) ? a : b));
+            member.menuPreference.forEach((menuId, preference) -> menuPreference.merge(menuId, preference, Double::sum));
+        }
+
+        double memberCount = members.size();
+        categoryShare.replaceAll((category, share) -> share / memberCount);
+        menuPreference.replaceAll((menuId, preference) -> preference / memberCount);
+
+        Map<Long, Double> menuRatings = new HashMap<>();
+        ratingSums.forEach((menuId, sum) -> menuRatings.put(menuId, sum[0] / sum[1]));
+
+        return new TasteProfile(recentMenuIds, categoryShare, menuRatings, lastEatenAt, menuPreference);
+    }
+
+    public boolean isEmpty() {
+        return lastEatenAt.isEmpty();
+    }
+
+    /**
+     * 사용자 x 메뉴 식사 이력 요약
+     *
+     * @param averageRating 평점이 하나도 없으면 null
+     */
+    public record MenuSummary(Long menuId, String category, long meals, LocalDateTime lastEatenAt,
+                              Double averageRating) {
+    }
+}
@@ -0,0 +1,178 @@
+package com.menubot.menubot.menu.catalog;
+
+import com.menubot.menubot.menu.dto.MenuConstraint;
+import com.menubot.menubot.menu.entity.Menu;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 메뉴 카탈로그의 불변 스냅샷 (메뉴 위치 기반 인덱스 포함)
+ */
+@Getter
+public class CatalogSnapshot {
+
+    private static final int MAGIC = 0x4D434154; // "MCAT"
+    private static final int VERSION = 1;
+    private static final int MIN_JAMO_QUERY_LENGTH = 3;
+
+    private final List<Menu> menus;
+    private final Map<Long, Integer> positions; // 메뉴 ID -> 위치
+    private final MenuAttributeIndex attributeIndex;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> aliases; // 스냅샷 파일 저장용
+    @Getter(AccessLevel.NONE)
+    private final MenuAliasTable aliasTable;
+    @Getter(AccessLevel.NONE)
+    private final MenuNameTrie nameTrie;
+
+    public CatalogSnapshot(List<Menu> menus) {
+        this(menus, Map.of());
+    }
+
+    /**
+     * @param aliases 정규화된 별칭 -> 메뉴 ID
+     */
+    public CatalogSnapshot(List<Menu> menus, Map<String, Long> aliases) {
+        this.menus = List.copyOf(menus);
+        this.positions = new HashMap<>(menus.size() * 2);
+        for (int i = 0; i < this.menus.size(); i++) {
+            positions.put(this.menus.get(i).getId(), i);
+        }
+        this.attributeIndex = new MenuAttributeIndex(this.menus);
+        this.aliases = Map.copyOf(aliases);
+        Map<String, Integer> names = aliasEntries(aliases);
+        this.aliasTable = new MenuAliasTable(names);
+        this.nameTrie = new MenuNameTrie(names);
+    }
+
+    /**
+     * 별칭과 대표 이름(정규화)을 함께 등록 - 대표 이름이 별칭보다 우선
+     */
+    private Map<String, Integer> aliasEntries(Map<String, Long> aliases) {
+        Map<String, Integer> entries = new HashMap<>((aliases.size() + menus.size()) * 2);
+        aliases.forEach((alias, menuId) -> {
+            Integer position = positions.get(menuId);
+            if (position != null) {
+                entries.put(alias, position);
+            }
+        });
+        for (int i = 0; i < menus.size(); i++) {
+            entries.put(MenuAliasTable.normalize(menus.get(i).getName()), i);
+        }
+        return entries;
+    }
+
+    public boolean isEmpty() {
+        return menus.isEmpty();
+    }
+
+    public Optional<Menu> findById(Long menuId) {
+        Integer position = positions.get(menuId);
+        return position != null ? Optional.of(menus.get(position)) : Optional.empty();
+    }
+
+    /**
+     * 별칭 또는 대표 이름으로 메뉴 찾기 (정규화 후 해시 조회 한 번)
+     */
+    public Optional<Menu> resolve(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        int position = aliasTable.get(MenuAliasTable.normalize(name));
+        return position >= 0 ? Optional.of(menus.get(position)) : Optional.empty();
+    }
+
+    /**
+     * 초성/부분 입력으로 메뉴 찾기 ("ㄱㅊㅉㄱ", "김치찌") - 질의 길이만큼만 트라이 이동
+     * 두 글자 미만, 초성만 세 글자 미만("ㅇㅇ", "ㅋㅋ")은 후보가 너무 많아서 찾지 않음
+     */
+    public Optional<Menu> findByPrefix(String query) {
+        if (query == null) {
+            return Optional.empty();
+        }
+        String normalized = MenuAliasTable.normalize(query);
+        if (normalized.length() < 2
+                || (normalized.length() < MIN_JAMO_QUERY_LENGTH && MenuNameTrie.isJamoOnly(normalized))) {
+            return Optional.empty();
+        }
+        int position = nameTrie.findPrefix(normalized);
+        return position >= 0 ? Optional.of(menus.get(position)) : Optional.empty();
+    }
+
+    public static String normalizeAlias(String name) {
+        return MenuAliasTable.normalize(name);
+    }
+
+    /**
+     * 파일 저장 (다음 기동 때 DB 조회 없이 바로 사용)
+     */
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(menus.size());
+        for (Menu menu : menus) {
+            out.writeLong(menu.getId());
+            out.writeUTF(menu.getName());
+            out.writeUTF(menu.getCategory());
+            out.writeInt(menu.getCalories() != null ? menu.getCalories() : -1);
+            out.writeInt(menu.getSpicyLevel() != null ? menu.getSpicyLevel() : -1);
+        }
+        out.writeInt(aliases.size());
+        for (Map.Entry<String, Long> alias : aliases.entrySet()) {
+            out.writeUTF(alias.getKey());
+            out.writeLong(alias.getValue());
+        }
+    }
+
+    public static CatalogSnapshot readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unsupported catalog snapshot format");
+        }
+
+        int menuCount = in.readInt();
+        List<Menu> menus = new ArrayList<>(menuCount);
+        for (int i = 0; i < menuCount; i++) {
+            long id = in.readLong();
+            String name = in.readUTF();
+            String category = in.readUTF();
+            int calories = in.readInt();
+            int spicyLevel = in.readInt();
+            menus.add(Menu.restore(id, name, category,
+                    calories >= 0 ? calories : null,
+                    spicyLevel >= 0 ? spicyLevel : null));
+        }
+
+        int aliasCount = in.readInt();
+        Map<String, Long> aliases = new HashMap<>(aliasCount * 2);
+        for (int i = 0; i < aliasCount; i++) {
+            aliases.put(in.readUTF(), in.readLong());
+        }
+        return new CatalogSnapshot(menus, aliases);
+    }
+
+    /**
+     * 조건에 맞는 메뉴 목록 (조건이 없으면 전체)
+     */
+    public List<Menu> select(MenuConstraint constraint) {
+        if (constraint.isEmpty()) {
+            return menus;
+        }
+
+        BitSet bits = attributeIndex.filter(constraint);
+        List<Menu> selected = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            selected.add(menus.get(i));
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,70 @@
+package com.menubot.menubot.menu.catalog;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 별칭 -> 메뉴 위치 오픈 어드레싱 해시 테이블 (선형 탐사)
+ * - 키 배열과 값 배열만 사용해서 조회 시 객체 생성 없음
+ * - 스냅샷과 함께 만들어지고 이후 변경하지 않음
+ */
+final class MenuAliasTable {
+
+    private static final int NONE = -1;
+
+    private final String[] keys;
+    private final int[] values;
+    private final int mask;
+
+    MenuAliasTable(Map<String, Integer> entries) {
+        // 적재율 0.5 이하 유지 (탐사 길이를 짧게)
+        int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+            int slot = slot(entry.getKey());
+            while (keys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = entry.getKey();
+            values[slot] = entry.getValue();
+        }
+    }
+
+    /**
+     * 정규화된 키의 메뉴 위치 (없으면 -1)
+     */
+    int get(String normalizedKey) {
+        int slot = slot(normalizedKey);
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (key.equals(normalizedKey)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    private int slot(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * 별칭 정규화 (공백 제거, 소문자)
+     * 예: "치즈 돈까스" -> "치즈돈까스", "Pasta" -> "pasta"
+     */
+    static String normalize(String name) {
+        StringBuilder sb = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
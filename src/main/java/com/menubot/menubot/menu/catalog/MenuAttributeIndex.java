@@ -0,0 +1,137 @@
+package com.menubot.menubot.menu.catalog;
+
+import com.menubot.menubot.menu.dto.MenuConstraint;
+import com.menubot.menubot.menu.entity.Menu;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 속성별 비트셋 인덱스 (비트 위치 = 카탈로그 내 메뉴 위치)
+ * - 카테고리별, 매운 정도(0-5)별, 칼로리 구간(100kcal)별
+ * - 조건 필터링은 비트셋 교집합으로 계산
+ */
+public class MenuAttributeIndex {
+
+    static final int MAX_SPICY_LEVEL = 5;
+    static final int CALORIE_BUCKET_SIZE = 100;
+
+    private final int size;
+    private final Map<String, BitSet> byCategory = new HashMap<>();
+    private final BitSet[] bySpicyLevel = new BitSet[MAX_SPICY_LEVEL + 1];
+    private final BitSet[] byCalorieBucket;
+    private final int[] calories; // 칼로리 정보 없으면 -1
+
+    public MenuAttributeIndex(List<Menu> menus) {
+        this.size = menus.size();
+        this.calories = new int[size];
+
+        for (int level = 0; level <= MAX_SPICY_LEVEL; level++) {
+            bySpicyLevel[level] = new BitSet(size);
+        }
+
+        int maxBucket = 0;
+        for (Menu menu : menus) {
+            if (menu.getCalories() != null) {
+                maxBucket = Math.max(maxBucket, bucketOf(menu.getCalories()));
+            }
+        }
+        this.byCalorieBucket = new BitSet[maxBucket + 1];
+        for (int bucket = 0; bucket <= maxBucket; bucket++) {
+            byCalorieBucket[bucket] = new BitSet(size);
+        }
+
+        for (int i = 0; i < size; i++) {
+            Menu menu = menus.get(i);
+
+            byCategory.computeIfAbsent(menu.getCategory(), category -> new BitSet(size)).set(i);
+
+            // 매운 정도 정보가 없는 메뉴는 매운맛 조건에서 제외
+            if (menu.getSpicyLevel() != null) {
+                bySpicyLevel[clampSpicy(menu.getSpicyLevel())].set(i);
+            }
+
+            if (menu.getCalories() != null) {
+                calories[i] = menu.getCalories();
+                byCalorieBucket[bucketOf(menu.getCalories())].set(i);
+            } else {
+                calories[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * 조건을 만족하는 메뉴 위치 비트셋
+     */
+    public BitSet filter(MenuConstraint constraint) {
+        BitSet result = new BitSet(size);
+        result.set(0, size);
+
+        if (constraint.isEmpty()) {
+            return result;
+        }
+
+        // 1. 카테고리 (여러 개면 합집합)
+        if (!constraint.getCategories().isEmpty()) {
+            BitSet categories = new BitSet(size);
+            for (String category : constraint.getCategories()) {
+                BitSet bits = byCategory.get(category);
+                if (bits != null) {
+                    categories.or(bits);
+                }
+            }
+            result.and(categories);
+        }
+
+        // 2. 매운 정도 범위
+        if (constraint.hasSpicyConstraint()) {
+            int min = constraint.getMinSpicyLevel() != null ? clampSpicy(constraint.getMinSpicyLevel()) : 0;
+            int max = constraint.getMaxSpicyLevel() != null ? clampSpicy(constraint.getMaxSpicyLevel()) : MAX_SPICY_LEVEL;
+            BitSet spicy = new BitSet(size);
+            for (int level = min; level <= max; level++) {
+                spicy.or(bySpicyLevel[level]);
+            }
+            result.and(spicy);
+        }
+
+        // 3. 칼로리 상한 (상한 아래 구간은 통째로, 경계 구간만 개별 비교)
+        if (constraint.getMaxCalories() != null) {
+            result.and(caloriesAtMost(constraint.getMaxCalories()));
+        }
+
+        return result;
+    }
+
+    private BitSet caloriesAtMost(int maxCalories) {
+        BitSet bits = new BitSet(size);
+        if (maxCalories < 0) {
+            return bits;
+        }
+
+        int boundary = bucketOf(maxCalories);
+        int fullBuckets = Math.min(boundary, byCalorieBucket.length);
+        for (int bucket = 0; bucket < fullBuckets; bucket++) {
+            bits.or(byCalorieBucket[bucket]);
+        }
+
+        if (boundary < byCalorieBucket.length) {
+            BitSet edge = byCalorieBucket[boundary];
+            for (int i = edge.nextSetBit(0); i >= 0; i = edge.nextSetBit(i + 1)) {
+                if (calories[i] <= maxCalories) {
+                    bits.set(i);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static int bucketOf(int calories) {
+        return Math.max(calories, 0) / CALORIE_BUCKET_SIZE;
+    }
+
+    private static int clampSpicy(int level) {
+        return Math.max(0, Math.min(MAX_SPICY_LEVEL, level));
+    }
+}
@@ -0,0 +1,200 @@
+package com.menubot.menubot.menu.catalog;
+
+import com.menubot.menubot.menu.repository.MenuAliasRepository;
+import com.menubot.menubot.menu.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 메뉴 카탈로그 메모리 캐시
+ * - 첫 조회 시 전체 메뉴를 한 번 로딩해서 스냅샷으로 보관
+ * - 메뉴/별칭 변경이 커밋되면 다음 조회 때 다시 로딩 (읽기 전용 요청 안에서도 복제본이 아닌 주 DB 에서)
+ * - 스냅샷 파일 저장은 요청 스레드 밖에서 (가상 스레드, 최신 스냅샷만)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCatalog {
+
+    private final MenuRepository menuRepository;
+    private final MenuAliasRepository menuAliasRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${menubot.catalog.snapshot-path:}")
+    private String snapshotPath; // 비어 있으면 파일 사용 안 함
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile boolean stale = true;
+    private final Object saveLock = new Object();
+
+    public CatalogSnapshot snapshot() {
+        if (stale) {
+            synchronized (this) {
+                if (stale) {
+                    reload();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * 카탈로그를 즉시 다시 로딩합니다
+     */
+    public synchronized CatalogSnapshot refresh() {
+        reload();
+        return snapshot;
+    }
+
+    /**
+     * 기동 시 카탈로그 준비 (별칭 테이블/트라이 포함)
+     * 스냅샷 파일이 있으면 DB 조회 없이 바로 올리고, DB 최신본은 백그라운드에서 다시 로딩
+     */
+    public CatalogSnapshot preload() {
+        Path path = snapshotFile();
+        if (path != null && Files.exists(path)) {
+            long start = System.nanoTime();
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+                CatalogSnapshot loaded = CatalogSnapshot.readFrom(in);
+                synchronized (this) {
+                    snapshot = loaded;
+                    stale = false;
+                }
+                log.info("Menu catalog preloaded from {} - {} menus in {}ms",
+                        path, loaded.getMenus().size(), (System.nanoTime() - start) / 1_000_000);
+                Thread.ofVirtual().name("catalog-refresh").start(this::refreshQuietly);
+                return loaded;
+            } catch (IOException e) {
+                log.warn("Failed to preload menu catalog from {}, loading from database", path, e);
+            }
+        }
+        return refresh();
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Background menu catalog refresh failed", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(MenuCatalogChangedEvent event) {
+        log.debug("Menu catalog changed (menuId: {}), marking stale", event.menuId());
+        stale = true;
+    }
+
+    /**
+     * DB 조회에 실패하면 기존 스냅샷을 계속 사용하고 다음 조회 때 다시 시도
+     */
+    private void reload() {
+        stale = false;
+        try {
+            snapshot = load();
+            saveInBackground(snapshot);
+        } catch (RuntimeException e) {
+            stale = true;
+            if (snapshot == null) {
+                throw e;
+            }
+            log.warn("Failed to reload menu catalog, keeping previous snapshot", e);
+        }
+    }
+
+    /**
+     * 별도 쓰기 트랜잭션에서 로딩 (호출한 요청의 읽기 전용 트랜잭션이면 지연된 복제본을 읽어 변경 전 카탈로그로 굳어짐)
+     */
+    private CatalogSnapshot load() {
+        TransactionTemplate primary = new TransactionTemplate(transactionManager);
+        primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return primary.execute(status -> loadFromDatabase());
+    }
+
+    private CatalogSnapshot loadFromDatabase() {
+        long start = System.nanoTime();
+        List<Object[]> aliasPairs = menuAliasRepository.findAllAliasPairs();
+        Map<String, Long> aliases = new HashMap<>(aliasPairs.size() * 2);
+        for (Object[] pair : aliasPairs) {
+            aliases.put((String) pair[0], (Long) pair[1]);
+        }
+
+        CatalogSnapshot loaded = new CatalogSnapshot(menuRepository.findAll(), aliases);
+        log.info("Menu catalog loaded - {} menus, {} aliases in {}ms",
+                loaded.getMenus().size(), aliases.size(), (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    private void saveInBackground(CatalogSnapshot loaded) {
+        if (snapshotFile() != null) {
+            Thread.ofVirtual().name("catalog-save").start(() -> save(loaded));
+        }
+    }
+
+    /**
+     * 임시 파일에 쓰고 교체 (그사이 더 새 스냅샷이 로딩됐으면 건너뜀, 실패하면 임시 파일 삭제)
+     */
+    private void save(CatalogSnapshot loaded) {
+        Path path = snapshotFile();
+        synchronized (saveLock) {
+            if (loaded != snapshot) {
+                return;
+            }
+            Path temp = null;
+            try {
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                temp = Files.createTempFile(parent, "catalog", ".tmp");
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                    loaded.writeTo(out);
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                temp = null;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to save menu catalog snapshot to {}", path, e);
+            } finally {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path temp) {
+        if (temp == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException e) {
+            log.debug("Failed to delete temporary catalog snapshot {}", temp, e);
+        }
+    }
+
+    private Path snapshotFile() {
+        return snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+}
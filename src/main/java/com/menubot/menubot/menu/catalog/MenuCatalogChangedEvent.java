@@ -0,0 +1,7 @@
+package com.menubot.menubot.menu.catalog;
+
+/**
+ * 메뉴가 추가/변경되었을 때 발행 (커밋 후 카탈로그 갱신)
+ */
+public record MenuCatalogChangedEvent(Long menuId) {
+}
@@ -0,0 +1,162 @@
+package com.menubot.menubot.menu.catalog;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 메뉴 이름 초성/자모 접두사 트라이
+ * - 이름마다 초성 키("ㄱㅊㅉㄱ")와 자모 키("ㄱㅣㅁㅊㅣㅉㅣㄱㅐ")를 함께 등록
+ * - 노드마다 가장 짧은 이름의 메뉴를 미리 저장해서 조회는 질의 길이만큼만 이동
+ * - "ㄱㅊㅉㄱ", "김치찌", "김치찍"(입력 중) 모두 김치찌개로 찾음
+ */
+final class MenuNameTrie {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final char JAMO_FIRST = 0x3131; // ㄱ
+    private static final char JAMO_LAST = 0x3163; // ㅣ
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 겹모음/겹받침은 두 글자로 풀어서 입력 중인 글자도 접두사로 맞춤
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ",
+            "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private final Node root = new Node();
+
+    /**
+     * @param entries 정규화된 이름(대표 이름, 별칭) -> 메뉴 위치
+     */
+    MenuNameTrie(Map<String, Integer> entries) {
+        for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+            String name = entry.getKey();
+            insert(chosung(name), entry.getValue(), name.length());
+            insert(jamo(name), entry.getValue(), name.length());
+        }
+        root.freeze();
+    }
+
+    /**
+     * 정규화된 질의로 시작하는 이름 중 가장 짧은 메뉴의 위치 (없으면 -1)
+     */
+    int findPrefix(String normalizedQuery) {
+        Node node = root;
+        String key = jamo(normalizedQuery);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        return node != null && node != root ? node.best : -1;
+    }
+
+    private void insert(String key, int position, int nameLength) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offer(position, nameLength);
+        }
+    }
+
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHOSUNG.charAt((c - SYLLABLE_BASE) / 588) : c);
+        }
+        return sb.toString();
+    }
+
+    static String jamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                sb.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_BASE;
+            sb.append(CHOSUNG.charAt(index / 588))
+                    .append(JUNGSUNG[(index % 588) / 28])
+                    .append(JONGSUNG[index % 28]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 완성된 글자 없이 자모만 있는지 ("ㅇㅇ", "ㄱㅊ")
+     */
+    static boolean isJamoOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < JAMO_FIRST || c > JAMO_LAST) {
+                return false;
+            }
+        }
+        return !text.isEmpty();
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 자식은 문자 배열 + 노드 배열 (빌드 후 정렬해서 이진 탐색)
+     */
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int best = -1;
+        private int bestLength = Integer.MAX_VALUE;
+
+        void offer(int position, int nameLength) {
+            if (nameLength < bestLength || (nameLength == bestLength && position < best)) {
+                best = position;
+                bestLength = nameLength;
+            }
+        }
+
+        Node childOrCreate(char label) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            labels[labels.length - 1] = label;
+            return children[children.length - 1] = new Node();
+        }
+
+        Node child(char label) {
+            int i = Arrays.binarySearch(labels, label);
+            return i >= 0 ? children[i] : null;
+        }
+
+        void freeze() {
+            if (labels.length > 1) {
+                Integer[] order = new Integer[labels.length];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (a, b) -> Character.compare(labels[a], labels[b]));
+
+                char[] sortedLabels = new char[labels.length];
+                Node[] sortedChildren = new Node[children.length];
+                for (int i = 0; i < order.length; i++) {
+                    sortedLabels[i] = labels[order[i]];
+                    sortedChildren[i] = children[order[i]];
+                }
+                labels = sortedLabels;
+                children = sortedChildren;
+            }
+            for (Node child : children) {
+                child.freeze();
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.menubot.menubot.menu.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 관리자 API (/admin/**) 접근 제어
+ * - menubot.admin.token 이 비어 있으면 관리자 API 비활성 (404)
+ * - 설정되어 있으면 X-Admin-Token 헤더가 일치해야 함 (401)
+ */
+@Slf4j
+@Configuration
+public class AdminWebConfig implements WebMvcConfigurer {
+
+    static final String TOKEN_HEADER = "X-Admin-Token";
+
+    @Value("${menubot.admin.token:}")
+    private String adminToken;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        byte[] expected = adminToken.getBytes(StandardCharsets.UTF_8);
+
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (expected.length == 0) {
+                    response.setStatus(HttpStatus.NOT_FOUND.value());
+                    return false;
+                }
+
+                String token = request.getHeader(TOKEN_HEADER);
+                // 길이/내용 비교 시간이 토큰에 따라 달라지지 않도록 MessageDigest.isEqual 사용
+                if (token == null || !MessageDigest.isEqual(expected, token.getBytes(StandardCharsets.UTF_8))) {
+                    log.warn("Admin request rejected - path: {}, remote: {}", request.getRequestURI(), request.getRemoteAddr());
+                    response.setStatus(HttpStatus.UNAUTHORIZED.value());
+                    return false;
+                }
+                return true;
+            }
+        }).addPathPatterns("/admin/**");
+    }
+}
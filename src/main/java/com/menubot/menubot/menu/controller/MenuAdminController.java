@@ -0,0 +1,52 @@
+package com.menubot.menubot.menu.controller;
+
+import com.menubot.menubot.menu.dto.MenuAliasDto;
+import com.menubot.menubot.menu.dto.MenuAliasRequest;
+import com.menubot.menubot.menu.dto.MenuMergeRequest;
+import com.menubot.menubot.menu.dto.MenuMergeResultDto;
+import com.menubot.menubot.menu.service.MenuAliasService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * 메뉴 관리 (별칭 등록, 중복 메뉴 병합)
+ * menubot.admin.token 이 설정된 경우에만 열리고 X-Admin-Token 헤더가 필요함 (AdminWebConfig)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/admin/menus")
+@RequiredArgsConstructor
+public class MenuAdminController {
+
+    private final MenuAliasService menuAliasService;
+
+    /**
+     * 별칭 등록: {"alias": "자장면", "menuId": 3}
+     */
+    @PostMapping("/aliases")
+    public ResponseEntity<MenuAliasDto> addAlias(@RequestBody MenuAliasRequest request) {
+        return ResponseEntity.ok(menuAliasService.addAlias(request.getAlias(), request.getMenuId()));
+    }
+
+    /**
+     * 중복 메뉴 병합: {"sourceId": 12, "targetId": 3}
+     */
+    @PostMapping("/merge")
+    public ResponseEntity<MenuMergeResultDto> merge(@RequestBody MenuMergeRequest request) {
+        return ResponseEntity.ok(menuAliasService.mergeMenus(request.getSourceId(), request.getTargetId()));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e) {
+        log.debug("Menu admin request rejected: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
+    }
+}
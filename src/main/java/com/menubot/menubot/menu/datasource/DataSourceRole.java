@@ -0,0 +1,9 @@
+package com.menubot.menubot.menu.datasource;
+
+/**
+ * 라우팅 대상 (쓰기: 주 DB, 읽기 전용 트랜잭션: 복제본)
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,60 @@
+package com.menubot.menubot.menu.datasource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 주 DB / 복제본 읽기-쓰기 분리 (menubot.datasource.routing.enabled=true 일 때만)
+ * 꺼져 있으면 spring.datasource.* 단일 DataSource 그대로 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "menubot.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public DataSource primaryDataSource(@Value("${menubot.datasource.primary.url}") String url,
+                                        @Value("${menubot.datasource.primary.username:sa}") String username,
+                                        @Value("${menubot.datasource.primary.password:}") String password) {
+        return DataSourceBuilder.create().url(url).username(username).password(password).build();
+    }
+
+    @Bean
+    public DataSource replicaDataSource(@Value("${menubot.datasource.replica.url}") String url,
+                                        @Value("${menubot.datasource.replica.username:sa}") String username,
+                                        @Value("${menubot.datasource.replica.password:}") String password) {
+        return DataSourceBuilder.create().url(url).username(username).password(password).build();
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(@Value("${menubot.datasource.routing.lag-guard-ms:5000}") long windowMillis) {
+        return new ReplicaLagGuard(windowMillis);
+    }
+
+    /**
+     * JPA 가 사용하는 DataSource
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagGuard replicaLagGuard) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagGuard);
+        routing.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routing.setDefaultTargetDataSource(primaryDataSource);
+        routing.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻어야 readOnly 여부가 반영됨
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
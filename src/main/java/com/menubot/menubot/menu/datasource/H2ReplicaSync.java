@@ -0,0 +1,94 @@
+package com.menubot.menubot.menu.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 검증용 복제 흉내 (H2 두 개)
+ * 주 DB 를 SCRIPT 로 덤프해서 복제본에 주기적으로 다시 적재 - 적재 주기만큼 복제 지연이 생김
+ * - 적재 중에는 읽기를 주 DB 로 돌리고, 이미 복제본을 쓰던 세션은 배타 모드로 멈춰 둠 (지워진 테이블을 읽지 않도록)
+ * - 적재에 실패하면 다음 적재가 성공할 때까지 복제본을 쓰지 않음
+ */
+@Slf4j
+@Component
+@Profile("local")
+@ConditionalOnProperty(name = "menubot.datasource.routing.enabled", havingValue = "true")
+public class H2ReplicaSync {
+
+    private final DataSource primaryDataSource;
+    private final DataSource replicaDataSource;
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public H2ReplicaSync(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                         @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                         ReplicaLagGuard replicaLagGuard) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaDataSource = replicaDataSource;
+        this.replicaLagGuard = replicaLagGuard;
+        // 복제본은 첫 적재 전까지 비어 있음
+        replicaLagGuard.suspendReplica();
+    }
+
+    /**
+     * 스키마는 주 DB 에만 생성되므로 기동 직후 한 번 복사 (다른 기동 리스너의 읽기보다 먼저)
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        sync();
+    }
+
+    @Scheduled(fixedDelayString = "${menubot.datasource.replica-sync-ms:3000}",
+            initialDelayString = "${menubot.datasource.replica-sync-ms:3000}")
+    public void sync() {
+        long start = System.nanoTime();
+        try {
+            List<String> script = dumpPrimary();
+            replicaLagGuard.suspendReplica();
+            try (Connection connection = replicaDataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("SET EXCLUSIVE 1");
+                try {
+                    statement.execute("DROP ALL OBJECTS");
+                    for (String sql : script) {
+                        statement.execute(sql);
+                    }
+                } finally {
+                    statement.execute("SET EXCLUSIVE 0");
+                }
+            }
+            replicaLagGuard.resumeReplica();
+            log.debug("Replica synced - {} statements in {}ms", script.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (SQLException e) {
+            log.warn("Failed to sync H2 replica, reads stay on primary until the next sync", e);
+        }
+    }
+
+    private List<String> dumpPrimary() throws SQLException {
+        List<String> script = new ArrayList<>();
+        try (Connection connection = primaryDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SCRIPT")) {
+            while (rs.next()) {
+                script.add(rs.getString(1));
+            }
+        }
+        return script;
+    }
+}
@@ -0,0 +1,27 @@
+package com.menubot.menubot.menu.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 읽기 전용 여부로 주 DB / 복제본 선택
+ * - 읽기 전용 트랜잭션이면 복제본 (단, 방금 기록한 사용자와 복제본 적재 중에는 주 DB)
+ * - 쓰기 트랜잭션, 트랜잭션 밖 접근은 주 DB
+ * LazyConnectionDataSourceProxy 로 감싸서 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 함
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagGuard replicaLagGuard;
+
+    public ReadWriteRoutingDataSource(ReplicaLagGuard replicaLagGuard) {
+        this.replicaLagGuard = replicaLagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || !replicaLagGuard.isReplicaReadable()) {
+            return DataSourceRole.PRIMARY;
+        }
+        return replicaLagGuard.isPinned(RequestUserContext.get()) ? DataSourceRole.PRIMARY : DataSourceRole.REPLICA;
+    }
+}
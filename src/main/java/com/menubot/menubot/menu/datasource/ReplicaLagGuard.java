@@ -0,0 +1,82 @@
+package com.menubot.menubot.menu.datasource;
+
+import com.menubot.menubot.menu.event.MealRatedEvent;
+import com.menubot.menubot.menu.event.MealRecordedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 지연 보호
+ * - 식사 기록/평점이 커밋된 뒤 잠시 동안은 그 사용자의 읽기를 주 DB 로 보냄 (방금 기록한 식사/평점이 보이도록)
+ * - 복제본을 다시 적재하는 동안에는 모든 읽기를 주 DB 로 보냄
+ */
+@Slf4j
+public class ReplicaLagGuard {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>(); // 사용자 -> 만료 시각 (nanoTime)
+    private final long windowNanos;
+    private volatile boolean replicaSuspended;
+
+    public ReplicaLagGuard(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    /**
+     * 복제본 읽기 가능 여부 (적재 중이면 false)
+     */
+    public boolean isReplicaReadable() {
+        return !replicaSuspended;
+    }
+
+    public void suspendReplica() {
+        replicaSuspended = true;
+    }
+
+    public void resumeReplica() {
+        replicaSuspended = false;
+    }
+
+    public boolean isPinned(String userId) {
+        if (userId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(userId, until);
+        return false;
+    }
+
+    public void pin(String userId) {
+        long now = System.nanoTime();
+        pinnedUntil.put(userId, now + windowNanos);
+
+        // 다시 읽지 않은 사용자 정리
+        if (pinnedUntil.size() > PURGE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until - now <= 0);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRecorded(MealRecordedEvent event) {
+        pin(event.kakaoUserId());
+        log.debug("Reads pinned to primary - userId: {}", event.kakaoUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRated(MealRatedEvent event) {
+        pin(event.kakaoUserId());
+        log.debug("Reads pinned to primary after rating - userId: {}", event.kakaoUserId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.menubot.menubot.menu.datasource;
+
+/**
+ * 현재 요청의 사용자 ID (복제본 지연 보호용)
+ * 요청 본문을 읽은 뒤 설정되고 요청이 끝나면 지워짐
+ */
+public final class RequestUserContext {
+
+    private static final ThreadLocal<String> USER_ID = new ThreadLocal<>();
+
+    private RequestUserContext() {
+    }
+
+    public static void set(String userId) {
+        USER_ID.set(userId);
+    }
+
+    public static String get() {
+        return USER_ID.get();
+    }
+
+    public static void clear() {
+        USER_ID.remove();
+    }
+}
@@ -0,0 +1,52 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * 식사 이력 키셋 페이지네이션 커서 (eatenAt, id)
+ */
+@Getter
+@AllArgsConstructor
+public class HistoryCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime eatenAt;
+    private Long id;
+
+    public static HistoryCursor of(MealHistoryDto meal) {
+        return new HistoryCursor(meal.getEatenAt(), meal.getId());
+    }
+
+    public String encode() {
+        return eatenAt.toString() + SEPARATOR + id;
+    }
+
+    /**
+     * 커서 문자열 해석 (없거나 잘못된 값이면 첫 페이지)
+     */
+    public static Optional<HistoryCursor> decode(String value) {
+        if (value == null || value.isBlank()) {
+            return Optional.empty();
+        }
+
+        int separator = value.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new HistoryCursor(
+                    LocalDateTime.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1))
+            ));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.menubot.menubot.menu.dto;
+
+import com.menubot.menubot.menu.entity.MealType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 식사 이력 조회용 프로젝션 (메뉴 이름을 조인해서 한 번에 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class MealHistoryDto {
+
+    private Long id;
+    private String menuName;
+    private MealType mealType;
+    private LocalDateTime eatenAt;
+}
@@ -0,0 +1,15 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MealHistoryPageDto {
+
+    private List<MealHistoryDto> meals;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean firstPage; // 커서가 없거나 해석할 수 없어서 첫 페이지를 조회한 경우
+}
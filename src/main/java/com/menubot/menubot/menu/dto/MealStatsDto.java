@@ -0,0 +1,23 @@
+package com.menubot.menubot.menu.dto;
+
+import com.menubot.menubot.menu.entity.StatsPeriod;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Getter
+@Builder
+public class MealStatsDto {
+
+    private StatsPeriod period;
+    private LocalDate from;
+    private LocalDate to;
+    private int mealCount;
+    private long totalCalories;      // 칼로리 정보가 있는 메뉴만 합산
+    private Integer averageCalories; // 칼로리 정보가 없으면 null
+    private Double averageSpicyLevel;
+    private Map<String, Integer> categoryCounts; // 많이 먹은 순
+    private int longestStreak;
+}
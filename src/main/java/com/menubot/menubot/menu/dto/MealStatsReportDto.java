@@ -0,0 +1,13 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MealStatsReportDto {
+
+    private MealStatsDto week;
+    private MealStatsDto month;
+    private int currentStreak; // 오늘(또는 어제)까지 이어진 연속 기록 일수
+}
@@ -0,0 +1,13 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MenuAliasDto {
+
+    private String alias;
+    private Long menuId;
+    private String menuName;
+}
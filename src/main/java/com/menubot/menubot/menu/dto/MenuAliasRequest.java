@@ -0,0 +1,10 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Data;
+
+@Data
+public class MenuAliasRequest {
+
+    private String alias;
+    private Long menuId;
+}
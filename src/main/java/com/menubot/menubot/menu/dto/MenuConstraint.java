@@ -0,0 +1,62 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 추천 조건 (발화에서 추출한 카테고리/매운 정도/칼로리 상한)
+ */
+@Getter
+@Builder
+public class MenuConstraint {
+
+    private static final MenuConstraint NONE = MenuConstraint.builder().build();
+
+    @Builder.Default
+    private Set<String> categories = Set.of();
+    private Integer minSpicyLevel;
+    private Integer maxSpicyLevel;
+    private Integer maxCalories;
+
+    public static MenuConstraint none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && minSpicyLevel == null && maxSpicyLevel == null && maxCalories == null;
+    }
+
+    public boolean hasSpicyConstraint() {
+        return minSpicyLevel != null || maxSpicyLevel != null;
+    }
+
+    /**
+     * 응답 문구용 요약 (예: "중식 · 안 매운 · 500kcal 이하")
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        for (String category : categories) {
+            append(sb, category);
+        }
+        if (maxSpicyLevel != null && maxSpicyLevel == 0) {
+            append(sb, "안 매운");
+        } else if (maxSpicyLevel != null) {
+            append(sb, "덜 매운");
+        } else if (minSpicyLevel != null) {
+            append(sb, "매운");
+        }
+        if (maxCalories != null) {
+            append(sb, maxCalories + "kcal 이하");
+        }
+        return sb.toString();
+    }
+
+    private static void append(StringBuilder sb, String part) {
+        if (!sb.isEmpty()) {
+            sb.append(" · ");
+        }
+        sb.append(part);
+    }
+}
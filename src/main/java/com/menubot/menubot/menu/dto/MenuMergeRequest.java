@@ -0,0 +1,10 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Data;
+
+@Data
+public class MenuMergeRequest {
+
+    private Long sourceId; // 없어질 중복 메뉴
+    private Long targetId; // 남길 대표 메뉴
+}
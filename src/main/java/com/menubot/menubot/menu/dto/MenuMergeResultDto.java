@@ -0,0 +1,16 @@
+package com.menubot.menubot.menu.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MenuMergeResultDto {
+
+    private Long targetId;
+    private String targetName;
+    private int movedHistories;
+    private int movedAliases;
+    private int movedPreferences;
+    private int movedRatings;
+}
@@ -15,6 +15,11 @@ public class MenuRecommendationDto {
     private String category;
     private Integer calories;
     private Integer spicyLevel;
-    private String recommendationReason;
+    private String recommendationReason; // 최종 결과에만 렌더링됨
     private Double score; // 추천 점수
+
+    // 추천 사유 코드 (ReasonCode 비트마스크)와 문구용 인자
+    private int reasonCodes;
+    private Double averageRating;
+    private Long daysSinceLastEaten;
 }
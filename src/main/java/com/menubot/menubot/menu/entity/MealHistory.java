@@ -8,13 +8,17 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "meal_histories")
+@Table(name = "meal_histories", indexes = {
+        @Index(name = "idx_meal_histories_user_eaten", columnList = "kakao_user_id, eaten_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MealHistory {
 
+    // 배치 insert 가 가능하도록 시퀀스 사용 (IDENTITY 는 JDBC 배치 불가)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_history_seq")
+    @SequenceGenerator(name = "meal_history_seq", sequenceName = "meal_histories_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -43,4 +47,8 @@ public class MealHistory {
         this.eatenAt = eatenAt;
         this.rating = rating;
     }
+
+    public void rate(int rating) {
+        this.rating = rating;
+    }
 }
\ No newline at end of file
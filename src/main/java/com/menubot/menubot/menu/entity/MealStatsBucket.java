@@ -0,0 +1,101 @@
+package com.menubot.menubot.menu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 사용자 x 기간(일/주/월) 식사 통계 누적
+ * - 식사 기록 시 해당 일/주/월 행만 갱신, 조회 시 이력 스캔 없음
+ * - streak: 일 단위는 그날까지 이어진 연속 기록 일수, 주/월 단위는 구간 내 최장 연속 기록 (구간 안의 날짜만 셈)
+ */
+@Entity
+@Table(name = "meal_stats_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_meal_stats_buckets_user_period_start",
+                columnNames = {"kakao_user_id", "period", "bucket_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MealStatsBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String kakaoUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatsPeriod period;
+
+    @Column(nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(nullable = false)
+    private int mealCount;
+
+    @Column(nullable = false)
+    private long calorieSum; // 칼로리 정보가 있는 메뉴만
+
+    @Column(nullable = false)
+    private int calorieCount;
+
+    @Column(nullable = false)
+    private int spicySum;
+
+    @Column(nullable = false)
+    private int spicyCount;
+
+    @Column(nullable = false)
+    private int streak;
+
+    @ElementCollection
+    @CollectionTable(name = "meal_stats_bucket_categories", joinColumns = @JoinColumn(name = "bucket_id"))
+    @MapKeyColumn(name = "category")
+    @Column(name = "meal_count", nullable = false)
+    private Map<String, Integer> categoryCounts = new HashMap<>();
+
+    @Builder
+    public MealStatsBucket(String kakaoUserId, StatsPeriod period, LocalDate bucketStart) {
+        this.kakaoUserId = kakaoUserId;
+        this.period = period;
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * 식사 한 끼 반영
+     */
+    public void add(Menu menu) {
+        mealCount++;
+        if (menu.getCalories() != null) {
+            calorieSum += menu.getCalories();
+            calorieCount++;
+        }
+        if (menu.getSpicyLevel() != null) {
+            spicySum += menu.getSpicyLevel();
+            spicyCount++;
+        }
+        categoryCounts.merge(menu.getCategory(), 1, Integer::sum);
+    }
+
+    /**
+     * @param date   연속 기록이 이어진 날짜
+     * @param streak 그날까지의 연속 기록 일수 (주/월 행은 구간 시작 이전 날짜를 빼고 반영)
+     */
+    public void updateStreak(LocalDate date, int streak) {
+        if (period == StatsPeriod.DAY) {
+            this.streak = streak;
+            return;
+        }
+        int daysInBucket = (int) ChronoUnit.DAYS.between(bucketStart, date) + 1;
+        this.streak = Math.max(this.streak, Math.min(streak, daysInBucket));
+    }
+}
@@ -1,16 +1,41 @@
 package com.menubot.menubot.menu.entity;
 
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
 public enum MealType {
-    LUNCH("점심"),
-    DINNER("저녁");
+    LUNCH("점심", LocalTime.of(12, 0)),
+    DINNER("저녁", LocalTime.of(18, 0));
 
     private final String description;
+    private final LocalTime typicalTime; // 지금 시간대가 아닌 식사를 기록할 때 쓰는 대표 시각
 
-    MealType(String description) {
+    MealType(String description, LocalTime typicalTime) {
         this.description = description;
+        this.typicalTime = typicalTime;
     }
 
     public String getDescription() {
         return description;
     }
+
+    /**
+     * 시각 기준 식사 타입 (11-15시 점심, 그 외 저녁)
+     */
+    public static MealType at(LocalTime time) {
+        int hour = time.getHour();
+        return (hour >= 11 && hour < 15) ? LUNCH : DINNER;
+    }
+
+    /**
+     * 이 식사를 한 시각 추정
+     * 지금 시간대의 식사면 지금, 아니면 지금 이전의 가장 가까운 대표 시각 (정오에 말한 "저녁" = 어제 저녁)
+     */
+    public LocalDateTime eatenAtBefore(LocalDateTime now) {
+        if (at(now.toLocalTime()) == this) {
+            return now;
+        }
+        LocalDateTime today = now.toLocalDate().atTime(typicalTime);
+        return today.isAfter(now) ? today.minusDays(1) : today;
+    }
 }
@@ -35,4 +35,13 @@ public class Menu {
         this.calories = calories;
         this.spicyLevel = spicyLevel;
     }
+
+    /**
+     * 카탈로그 스냅샷 파일에서 복원 (조회 전용, 저장하지 않음)
+     */
+    public static Menu restore(Long id, String name, String category, Integer calories, Integer spicyLevel) {
+        Menu menu = new Menu(name, category, calories, spicyLevel);
+        menu.id = id;
+        return menu;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.menubot.menubot.menu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메뉴 별칭 (변형 이름 -> 대표 메뉴)
+ * 예: "짜장", "짜장면", "자장면" -> 짜장면
+ */
+@Entity
+@Table(name = "menu_aliases", indexes = {
+        @Index(name = "idx_menu_aliases_menu", columnList = "menu_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MenuAlias {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String alias; // 정규화된 이름 (공백 제거, 소문자)
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "menu_id", nullable = false)
+    private Menu menu;
+
+    @Builder
+    public MenuAlias(String alias, Menu menu) {
+        this.alias = alias;
+        this.menu = menu;
+    }
+
+    public void changeMenu(Menu menu) {
+        this.menu = menu;
+    }
+}
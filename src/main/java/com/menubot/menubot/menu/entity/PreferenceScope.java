@@ -0,0 +1,6 @@
+package com.menubot.menubot.menu.entity;
+
+public enum PreferenceScope {
+    CATEGORY, // 사용자 x 카테고리
+    MENU      // 사용자 x 메뉴
+}
@@ -0,0 +1,92 @@
+package com.menubot.menubot.menu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 시간 감쇠 선호도 점수 (score, lastUpdated)
+ * - 식사 기록 시 O(1) 갱신: score = score * e^(-λΔt) + 1
+ * - 조회 시점에 감쇠 적용
+ */
+@Entity
+@Table(name = "preference_scores", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_preference_scores_user_scope_key",
+                columnNames = {"kakao_user_id", "scope", "target_key"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PreferenceScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String kakaoUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PreferenceScope scope;
+
+    @Column(nullable = false)
+    private String targetKey; // 카테고리 이름 또는 메뉴 ID
+
+    @Column(nullable = false)
+    private double score; // lastUpdated 시점 기준 값
+
+    @Column(nullable = false)
+    private LocalDateTime lastUpdated; // 마지막 식사 시각
+
+    @Builder
+    public PreferenceScore(String kakaoUserId, PreferenceScope scope, String targetKey) {
+        this.kakaoUserId = kakaoUserId;
+        this.scope = scope;
+        this.targetKey = targetKey;
+        this.score = 0.0;
+    }
+
+    /**
+     * 식사 한 번 반영 (기록 순서가 뒤바뀌어도 같은 결과)
+     */
+    public void add(LocalDateTime eatenAt, double decayPerSecond) {
+        if (lastUpdated == null) {
+            score = 1.0;
+            lastUpdated = eatenAt;
+        } else if (!eatenAt.isBefore(lastUpdated)) {
+            score = score * decay(lastUpdated, eatenAt, decayPerSecond) + 1.0;
+            lastUpdated = eatenAt;
+        } else {
+            score += decay(eatenAt, lastUpdated, decayPerSecond);
+        }
+    }
+
+    /**
+     * 다른 행의 점수를 합침 (메뉴 병합 시) - 더 늦은 시각 기준으로 감쇠 후 합산
+     */
+    public void absorb(PreferenceScore other, double decayPerSecond) {
+        LocalDateTime latest = other.lastUpdated.isAfter(lastUpdated) ? other.lastUpdated : lastUpdated;
+        score = scoreAt(latest, decayPerSecond) + other.scoreAt(latest, decayPerSecond);
+        lastUpdated = latest;
+    }
+
+    public void retarget(String targetKey) {
+        this.targetKey = targetKey;
+    }
+
+    /**
+     * 조회 시점 기준 감쇠된 값
+     */
+    public double scoreAt(LocalDateTime now, double decayPerSecond) {
+        return now.isAfter(lastUpdated) ? score * decay(lastUpdated, now, decayPerSecond) : score;
+    }
+
+    private static double decay(LocalDateTime from, LocalDateTime to, double decayPerSecond) {
+        return Math.exp(-decayPerSecond * Duration.between(from, to).toSeconds());
+    }
+}
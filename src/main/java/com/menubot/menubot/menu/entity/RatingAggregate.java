@@ -0,0 +1,77 @@
+package com.menubot.menubot.menu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 x 메뉴 평점 누적 (합계, 개수)
+ */
+@Entity
+@Table(name = "rating_aggregates", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rating_aggregates_user_menu", columnNames = {"kakao_user_id", "menu_id"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RatingAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String kakaoUserId;
+
+    @Column(name = "menu_id", nullable = false)
+    private Long menuId;
+
+    @Column(nullable = false)
+    private int ratingSum;
+
+    @Column(nullable = false)
+    private int ratingCount;
+
+    @Builder
+    public RatingAggregate(String kakaoUserId, Long menuId) {
+        this.kakaoUserId = kakaoUserId;
+        this.menuId = menuId;
+    }
+
+    /**
+     * 평점 반영 (같은 식사를 다시 평가하면 이전 평점을 대체)
+     */
+    public void apply(Integer previousRating, int rating) {
+        if (previousRating != null) {
+            ratingSum += rating - previousRating;
+        } else {
+            ratingSum += rating;
+            ratingCount++;
+        }
+    }
+
+    /**
+     * 이력에서 모은 합계/개수를 더함 (기존 평점 일괄 반영 시)
+     */
+    public void addAll(int sum, int count) {
+        ratingSum += sum;
+        ratingCount += count;
+    }
+
+    /**
+     * 다른 메뉴의 누적 평점을 합침 (메뉴 병합 시)
+     */
+    public void absorb(RatingAggregate other) {
+        ratingSum += other.ratingSum;
+        ratingCount += other.ratingCount;
+    }
+
+    public void retarget(Long menuId) {
+        this.menuId = menuId;
+    }
+
+    public double average() {
+        return ratingCount > 0 ? ratingSum / (double) ratingCount : 0.0;
+    }
+}
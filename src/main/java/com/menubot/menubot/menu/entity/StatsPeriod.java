@@ -0,0 +1,25 @@
+package com.menubot.menubot.menu.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 식사 통계 집계 단위 (일/주/월)
+ */
+public enum StatsPeriod {
+    DAY,
+    WEEK,  // 월요일 시작
+    MONTH;
+
+    /**
+     * 날짜가 속한 구간의 시작일
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.menubot.menubot.menu.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "user_groups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_groups_owner_name", columnNames = {"owner_id", "name"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserGroup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private String ownerId; // 그룹을 만든 사용자 (카카오 ID) - 이름은 소유자별로 고유
+
+    @Column(nullable = false)
+    private String name; // 예: "개발팀 점심"
+
+    @ElementCollection
+    @CollectionTable(name = "user_group_members", joinColumns = @JoinColumn(name = "group_id"))
+    @Column(name = "kakao_user_id", nullable = false)
+    private List<String> memberIds = new ArrayList<>();
+
+    @Builder
+    public UserGroup(String ownerId, String name, List<String> memberIds) {
+        this.ownerId = ownerId;
+        this.name = name;
+        this.memberIds = new ArrayList<>(memberIds);
+    }
+
+    public void replaceMembers(List<String> memberIds) {
+        this.memberIds.clear();
+        this.memberIds.addAll(memberIds);
+    }
+}
@@ -0,0 +1,9 @@
+package com.menubot.menubot.menu.event;
+
+/**
+ * 식사에 평점이 매겨졌을 때 발행 (커밋 후 미리 계산한 추천 무효화용)
+ */
+public record MealRatedEvent(String kakaoUserId,
+                             Long menuId,
+                             int rating) {
+}
@@ -0,0 +1,16 @@
+package com.menubot.menubot.menu.event;
+
+import com.menubot.menubot.menu.entity.MealType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 식사 기록이 저장되었을 때 발행 (커밋 후 메모리 인덱스 갱신용)
+ */
+public record MealRecordedEvent(Long historyId,
+                                String kakaoUserId,
+                                Long menuId,
+                                String category,
+                                MealType mealType,
+                                LocalDateTime eatenAt) {
+}
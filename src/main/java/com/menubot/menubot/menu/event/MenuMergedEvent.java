@@ -0,0 +1,8 @@
+package com.menubot.menubot.menu.event;
+
+/**
+ * 중복 메뉴가 대표 메뉴로 병합되었을 때 발행 (커밋 후 메뉴 ID 로 잡아둔 메모리 집계를 대표 메뉴로 옮기는 용도)
+ */
+public record MenuMergedEvent(Long sourceMenuId,
+                              Long targetMenuId) {
+}
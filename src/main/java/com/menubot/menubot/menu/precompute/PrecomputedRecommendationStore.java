@@ -0,0 +1,116 @@
+package com.menubot.menubot.menu.precompute;
+
+import com.menubot.menubot.menu.dto.MenuRecommendationDto;
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.event.MealRatedEvent;
+import com.menubot.menubot.menu.event.MealRecordedEvent;
+import com.menubot.menubot.menu.event.MenuMergedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 미리 계산한 식사 타입별 추천 결과 (메모리)
+ * - 피크 전에 배치가 통째로 교체, 요청 경로는 조회만 (점수 계산/DB 접근 없음)
+ * - 식사 기록/평점이 커밋되면 해당 사용자 결과만 무효화
+ * - 메뉴 병합이 커밋되면 전체 결과를 버림 (삭제된 메뉴가 추천되지 않도록)
+ *   메뉴 추가(기록 중 자동 생성 포함)/별칭 변경은 기존 결과를 틀리게 만들지 않으므로 그대로 둠
+ */
+@Slf4j
+@Component
+public class PrecomputedRecommendationStore {
+
+    private final Map<MealType, Generation> generations = new EnumMap<>(MealType.class);
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>(); // 사용자 -> 무효화 시각 (nanoTime)
+    private final long ttlNanos;
+    private Long menusMergedAt; // 마지막 메뉴 병합 시각 (nanoTime, generations 잠금으로 보호)
+
+    public PrecomputedRecommendationStore(@Value("${menubot.precompute.ttl-hours:6}") long ttlHours) {
+        this.ttlNanos = Duration.ofHours(ttlHours).toNanos();
+    }
+
+    /**
+     * 미리 계산한 추천 (없거나 만료됐으면 empty)
+     */
+    public Optional<List<MenuRecommendationDto>> find(String userId, MealType mealType) {
+        Generation generation;
+        synchronized (generations) {
+            generation = generations.get(mealType);
+        }
+        if (generation == null || System.nanoTime() - generation.publishedAt > ttlNanos) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(generation.recommendations.get(userId));
+    }
+
+    /**
+     * 배치 결과로 교체 (배치 시작 이후 식사를 기록한 사용자는 제외)
+     * 배치 시작 이후 메뉴가 병합됐으면 삭제된 메뉴가 섞여 있을 수 있어 버림
+     *
+     * @param startedAt 배치 시작 시각 (System.nanoTime)
+     */
+    public void publish(MealType mealType, Map<String, List<MenuRecommendationDto>> recommendations, long startedAt) {
+        Map<String, List<MenuRecommendationDto>> published = new ConcurrentHashMap<>(recommendations);
+
+        synchronized (generations) {
+            if (menusMergedAt != null && menusMergedAt - startedAt >= 0) {
+                log.info("Precomputed recommendations discarded - menus merged during batch, mealType: {}",
+                        mealType);
+                return;
+            }
+            invalidatedAt.forEach((userId, at) -> {
+                if (at - startedAt >= 0) {
+                    published.remove(userId);
+                }
+            });
+            invalidatedAt.values().removeIf(at -> at - startedAt < 0);
+            generations.put(mealType, new Generation(published, System.nanoTime()));
+        }
+        log.info("Precomputed recommendations published - mealType: {}, users: {}", mealType, published.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRecorded(MealRecordedEvent event) {
+        invalidate(event.kakaoUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRated(MealRatedEvent event) {
+        invalidate(event.kakaoUserId());
+    }
+
+    /**
+     * 메뉴가 병합되면 삭제된 메뉴가 들어 있을 수 있는 결과는 모두 버리고 다음 배치까지 바로 계산 (드문 관리 작업)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuMerged(MenuMergedEvent event) {
+        synchronized (generations) {
+            menusMergedAt = System.nanoTime();
+            generations.clear();
+            invalidatedAt.clear();
+        }
+        log.info("Precomputed recommendations dropped - menu {} merged into {}",
+                event.sourceMenuId(), event.targetMenuId());
+    }
+
+    private void invalidate(String userId) {
+        synchronized (generations) {
+            invalidatedAt.put(userId, System.nanoTime());
+            for (Generation generation : generations.values()) {
+                generation.recommendations.remove(userId);
+            }
+        }
+    }
+
+    private record Generation(Map<String, List<MenuRecommendationDto>> recommendations, long publishedAt) {
+    }
+}
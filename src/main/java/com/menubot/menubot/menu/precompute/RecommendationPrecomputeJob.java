@@ -0,0 +1,155 @@
+package com.menubot.menubot.menu.precompute;
+
+import com.menubot.menubot.menu.algorithm.ReasonRenderer;
+import com.menubot.menubot.menu.algorithm.RecommendationAlgorithm;
+import com.menubot.menubot.menu.algorithm.TasteProfile;
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalog;
+import com.menubot.menubot.menu.dto.MenuRecommendationDto;
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.service.PreferenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 점심/저녁 피크 전에 활성 사용자 전체의 추천을 미리 계산
+ * - 사용자를 파티션으로 나눠 코어 수만큼 병렬 처리
+ * - 파티션마다 선호도/평점/이력을 IN 쿼리로 한 번에 로딩 (사용자당 쿼리 없음)
+ */
+@Slf4j
+@Component
+public class RecommendationPrecomputeJob {
+
+    private final MealHistoryRepository mealHistoryRepository;
+    private final PreferenceService preferenceService;
+    private final MenuCatalog menuCatalog;
+    private final RecommendationAlgorithm recommendationAlgorithm;
+    private final ReasonRenderer reasonRenderer;
+    private final PrecomputedRecommendationStore store;
+
+    private final int activeDays;
+    private final int topK;
+    private final int partitionSize;
+    private final int parallelism;
+
+    public RecommendationPrecomputeJob(MealHistoryRepository mealHistoryRepository,
+                                       PreferenceService preferenceService,
+                                       MenuCatalog menuCatalog,
+                                       RecommendationAlgorithm recommendationAlgorithm,
+                                       ReasonRenderer reasonRenderer,
+                                       PrecomputedRecommendationStore store,
+                                       @Value("${menubot.precompute.active-days:30}") int activeDays,
+                                       @Value("${menubot.precompute.top-k:5}") int topK,
+                                       @Value("${menubot.precompute.partition-size:500}") int partitionSize,
+                                       @Value("${menubot.precompute.parallelism:0}") int parallelism) {
+        this.mealHistoryRepository = mealHistoryRepository;
+        this.preferenceService = preferenceService;
+        this.menuCatalog = menuCatalog;
+        this.recommendationAlgorithm = recommendationAlgorithm;
+        this.reasonRenderer = reasonRenderer;
+        this.store = store;
+        this.activeDays = activeDays;
+        this.topK = topK;
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Scheduled(cron = "${menubot.precompute.lunch-cron:0 30 10 * * *}")
+    public void precomputeLunch() {
+        precompute(MealType.LUNCH);
+    }
+
+    @Scheduled(cron = "${menubot.precompute.dinner-cron:0 30 16 * * *}")
+    public void precomputeDinner() {
+        precompute(MealType.DINNER);
+    }
+
+    /**
+     * 식사 타입 기준으로 활성 사용자 추천을 계산해서 저장소에 교체
+     */
+    public void precompute(MealType mealType) {
+        long startedAt = System.nanoTime();
+
+        CatalogSnapshot catalog = menuCatalog.snapshot();
+        if (catalog.isEmpty()) {
+            log.info("Precompute skipped - no menus");
+            return;
+        }
+
+        List<String> userIds = mealHistoryRepository.findActiveUserIds(LocalDateTime.now().minusDays(activeDays));
+        List<List<String>> partitions = partition(userIds);
+        Map<String, List<MenuRecommendationDto>> results = new ConcurrentHashMap<>(userIds.size() * 2);
+
+        List<Callable<Integer>> tasks = new ArrayList<>(partitions.size());
+        for (List<String> partition : partitions) {
+            tasks.add(() -> computePartition(partition, catalog, mealType, results));
+        }
+
+        int failedPartitions = 0;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<Integer> future : pool.invokeAll(tasks)) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    failedPartitions++;
+                    log.warn("Precompute partition failed - mealType: {}", mealType, e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Precompute interrupted - mealType: {}", mealType);
+            return;
+        } finally {
+            pool.shutdown();
+        }
+
+        store.publish(mealType, results, startedAt);
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double usersPerSecond = userIds.size() / Math.max(elapsedNanos / 1e9, 1e-9);
+        log.info("Precompute finished - mealType: {}, users: {}, computed: {}, partitions: {} (failed {}), "
+                        + "threads: {}, {}ms, {} users/sec",
+                mealType, userIds.size(), results.size(), partitions.size(), failedPartitions,
+                parallelism, elapsedNanos / 1_000_000, String.format("%.1f", usersPerSecond));
+    }
+
+    private int computePartition(List<String> userIds, CatalogSnapshot catalog, MealType mealType,
+                                 Map<String, List<MenuRecommendationDto>> results) {
+        Map<String, TasteProfile> profiles = preferenceService.loadProfiles(userIds);
+
+        int computed = 0;
+        for (Map.Entry<String, TasteProfile> entry : profiles.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            List<MenuRecommendationDto> recommendations =
+                    recommendationAlgorithm.recommend(entry.getValue(), catalog.getMenus(), topK, mealType);
+            reasonRenderer.renderAll(recommendations);
+            results.put(entry.getKey(), List.copyOf(recommendations));
+            computed++;
+        }
+        return computed;
+    }
+
+    private List<List<String>> partition(List<String> userIds) {
+        List<List<String>> partitions = new ArrayList<>((userIds.size() + partitionSize - 1) / partitionSize);
+        for (int from = 0; from < userIds.size(); from += partitionSize) {
+            partitions.add(userIds.subList(from, Math.min(from + partitionSize, userIds.size())));
+        }
+        return partitions;
+    }
+}
@@ -1,20 +1,47 @@
 package com.menubot.menubot.menu.repository;
 
+import com.menubot.menubot.menu.dto.MealHistoryDto;
 import com.menubot.menubot.menu.entity.MealHistory;
 import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.entity.Menu;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MealHistoryRepository extends JpaRepository<MealHistory, Long> {
 
     List<MealHistory> findByKakaoUserId(String kakaoUserId);
 
+    @Query("SELECT mh FROM MealHistory mh JOIN FETCH mh.menu WHERE mh.kakaoUserId = :userId")
+    List<MealHistory> findWithMenuByKakaoUserId(@Param("userId") String userId);
+
+    /**
+     * 사용자 x 메뉴별 식사 수, 마지막 식사 시각, 평점 합계/개수 (선호도 행이 없는 사용자의 취향 프로필용)
+     * 이력 길이와 무관하게 먹어본 메뉴 수만큼만 읽음
+     */
+    @Query("SELECT mh.kakaoUserId, m.id, m.category, COUNT(mh), MAX(mh.eatenAt), SUM(mh.rating), COUNT(mh.rating) " +
+            "FROM MealHistory mh JOIN mh.menu m WHERE mh.kakaoUserId IN :userIds " +
+            "GROUP BY mh.kakaoUserId, m.id, m.category")
+    List<Object[]> summarizeMenusByUser(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * 기간 내 식사 기록이 있는 사용자 (미리 계산 배치 대상)
+     */
+    @Query("SELECT DISTINCT mh.kakaoUserId FROM MealHistory mh WHERE mh.eatenAt >= :since")
+    List<String> findActiveUserIds(@Param("since") LocalDateTime since);
+
+    Optional<MealHistory> findFirstByKakaoUserIdOrderByEatenAtDescIdDesc(String kakaoUserId);
+
     List<MealHistory> findByKakaoUserIdAndMealType(String kakaoUserId, MealType mealType);
 
     @Query("SELECT mh FROM MealHistory mh WHERE mh.kakaoUserId = :userId " +
@@ -26,7 +53,68 @@ public interface MealHistoryRepository extends JpaRepository<MealHistory, Long>
             "ORDER BY mh.eatenAt DESC")
     List<MealHistory> findAllByUserIdOrderByEatenAtDesc(@Param("userId") String userId);
 
+    @Query("SELECT new com.menubot.menubot.menu.dto.MealHistoryDto(mh.id, m.name, mh.mealType, mh.eatenAt) " +
+            "FROM MealHistory mh JOIN mh.menu m WHERE mh.kakaoUserId = :userId " +
+            "ORDER BY mh.eatenAt DESC, mh.id DESC")
+    List<MealHistoryDto> findHistoryPage(@Param("userId") String userId, Limit limit);
+
+    @Query("SELECT new com.menubot.menubot.menu.dto.MealHistoryDto(mh.id, m.name, mh.mealType, mh.eatenAt) " +
+            "FROM MealHistory mh JOIN mh.menu m WHERE mh.kakaoUserId = :userId " +
+            "AND (mh.eatenAt < :eatenAt OR (mh.eatenAt = :eatenAt AND mh.id < :id)) " +
+            "ORDER BY mh.eatenAt DESC, mh.id DESC")
+    List<MealHistoryDto> findHistoryPageAfter(@Param("userId") String userId,
+                                              @Param("eatenAt") LocalDateTime eatenAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    @Query("SELECT MAX(mh.id) FROM MealHistory mh")
+    Optional<Long> findMaxId();
+
+    /**
+     * 사용자별 서로 다른 메뉴를 처음 먹은 순서대로 (메뉴 동시 섭취 인덱스 전체 계산용)
+     * 처음 기록된 이력 ID 순이라 새로 먹은 메뉴는 항상 뒤에 붙음
+     */
+    @Query("SELECT mh.kakaoUserId, mh.menu.id FROM MealHistory mh WHERE mh.id <= :upToId " +
+            "GROUP BY mh.kakaoUserId, mh.menu.id ORDER BY mh.kakaoUserId, MIN(mh.id)")
+    Stream<Object[]> streamUserMenusInFirstEatenOrder(@Param("upToId") long upToId);
+
+    /**
+     * 여러 사용자의 메뉴별 기록 수를 처음 먹은 순서대로 (메뉴 동시 섭취 인덱스 증분용, 쿼리 한 번)
+     */
+    @Query("SELECT mh.kakaoUserId, mh.menu.id, COUNT(mh) FROM MealHistory mh " +
+            "WHERE mh.kakaoUserId IN :userIds AND mh.id <= :upToId " +
+            "GROUP BY mh.kakaoUserId, mh.menu.id ORDER BY mh.kakaoUserId, MIN(mh.id)")
+    List<Object[]> findUserMenusInFirstEatenOrder(@Param("userIds") Collection<String> userIds,
+                                                  @Param("upToId") long upToId);
+
+    /**
+     * 사용자 이력을 식사 시각 순으로 (식사 통계 재계산용)
+     */
+    @Query("SELECT mh FROM MealHistory mh JOIN FETCH mh.menu WHERE mh.kakaoUserId = :userId " +
+            "ORDER BY mh.eatenAt, mh.id")
+    List<MealHistory> findWithMenuByKakaoUserIdOrderByEatenAt(@Param("userId") String userId);
+
+    /**
+     * 전체 이력을 사용자, 식사 시각 순으로 (식사 통계 초기화용)
+     */
+    @Query("SELECT mh FROM MealHistory mh JOIN FETCH mh.menu ORDER BY mh.kakaoUserId, mh.eatenAt, mh.id")
+    Stream<MealHistory> streamAllWithMenuOrderByUserAndEatenAt();
+
     @Query("SELECT m.id, COUNT(mh) FROM MealHistory mh JOIN mh.menu m " +
             "WHERE mh.kakaoUserId = :userId GROUP BY m.id ORDER BY COUNT(mh) DESC")
     List<Object[]> findMostEatenMenus(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 x 메뉴별 평점 합계/개수 (누적 평점 초기화용)
+     */
+    @Query("SELECT mh.kakaoUserId, mh.menu.id, SUM(mh.rating), COUNT(mh.rating) FROM MealHistory mh " +
+            "WHERE mh.rating IS NOT NULL GROUP BY mh.kakaoUserId, mh.menu.id")
+    List<Object[]> sumRatingsByUserAndMenu();
+
+    /**
+     * 메뉴 병합 시 이력 일괄 이동
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MealHistory mh SET mh.menu = :target WHERE mh.menu = :source")
+    int reassignMenu(@Param("source") Menu source, @Param("target") Menu target);
+}
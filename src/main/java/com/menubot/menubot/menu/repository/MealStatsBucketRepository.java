@@ -0,0 +1,28 @@
+package com.menubot.menubot.menu.repository;
+
+import com.menubot.menubot.menu.entity.MealStatsBucket;
+import com.menubot.menubot.menu.entity.StatsPeriod;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MealStatsBucketRepository extends JpaRepository<MealStatsBucket, Long> {
+
+    List<MealStatsBucket> findByKakaoUserId(String kakaoUserId);
+
+    @EntityGraph(attributePaths = "categoryCounts")
+    Optional<MealStatsBucket> findByKakaoUserIdAndPeriodAndBucketStart(String kakaoUserId,
+                                                                       StatsPeriod period,
+                                                                       LocalDate bucketStart);
+
+    @EntityGraph(attributePaths = "categoryCounts")
+    List<MealStatsBucket> findByKakaoUserIdAndPeriodAndBucketStartBetween(String kakaoUserId,
+                                                                          StatsPeriod period,
+                                                                          LocalDate from,
+                                                                          LocalDate to);
+}
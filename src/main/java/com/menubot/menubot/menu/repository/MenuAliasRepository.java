@@ -0,0 +1,28 @@
+package com.menubot.menubot.menu.repository;
+
+import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.entity.MenuAlias;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface MenuAliasRepository extends JpaRepository<MenuAlias, Long> {
+
+    Optional<MenuAlias> findByAlias(String alias);
+
+    /**
+     * 카탈로그 로딩용 (별칭, 메뉴 ID)
+     */
+    @Query("SELECT a.alias, a.menu.id FROM MenuAlias a")
+    List<Object[]> findAllAliasPairs();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MenuAlias a SET a.menu = :target WHERE a.menu = :source")
+    int reassignMenu(@Param("source") Menu source, @Param("target") Menu target);
+}
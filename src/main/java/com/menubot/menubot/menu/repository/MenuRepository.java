@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,8 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
 
     Optional<Menu> findByName(String name);
 
+    List<Menu> findByNameIn(Collection<String> names);
+
     List<Menu> findByCategory(String category);
 
     @Query("SELECT m FROM Menu m WHERE m.name LIKE %:keyword%")
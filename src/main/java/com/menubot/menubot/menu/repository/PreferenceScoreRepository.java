@@ -0,0 +1,30 @@
+package com.menubot.menubot.menu.repository;
+
+import com.menubot.menubot.menu.entity.PreferenceScope;
+import com.menubot.menubot.menu.entity.PreferenceScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PreferenceScoreRepository extends JpaRepository<PreferenceScore, Long> {
+
+    List<PreferenceScore> findByKakaoUserId(String kakaoUserId);
+
+    List<PreferenceScore> findByKakaoUserIdIn(Collection<String> kakaoUserIds);
+
+    Optional<PreferenceScore> findByKakaoUserIdAndScopeAndTargetKey(String kakaoUserId,
+                                                                    PreferenceScope scope,
+                                                                    String targetKey);
+
+    List<PreferenceScore> findByKakaoUserIdAndScopeAndTargetKeyIn(String kakaoUserId,
+                                                                   PreferenceScope scope,
+                                                                   Collection<String> targetKeys);
+
+    List<PreferenceScore> findByScopeAndTargetKey(PreferenceScope scope, String targetKey);
+
+    boolean existsByKakaoUserId(String kakaoUserId);
+}
@@ -0,0 +1,21 @@
+package com.menubot.menubot.menu.repository;
+
+import com.menubot.menubot.menu.entity.RatingAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RatingAggregateRepository extends JpaRepository<RatingAggregate, Long> {
+
+    List<RatingAggregate> findByKakaoUserId(String kakaoUserId);
+
+    List<RatingAggregate> findByKakaoUserIdIn(Collection<String> kakaoUserIds);
+
+    List<RatingAggregate> findByMenuId(Long menuId);
+
+    Optional<RatingAggregate> findByKakaoUserIdAndMenuId(String kakaoUserId, Long menuId);
+}
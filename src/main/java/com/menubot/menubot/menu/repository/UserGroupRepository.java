@@ -0,0 +1,15 @@
+package com.menubot.menubot.menu.repository;
+
+import com.menubot.menubot.menu.entity.UserGroup;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserGroupRepository extends JpaRepository<UserGroup, Long> {
+
+    @EntityGraph(attributePaths = "memberIds")
+    Optional<UserGroup> findByOwnerIdAndName(String ownerId, String name);
+}
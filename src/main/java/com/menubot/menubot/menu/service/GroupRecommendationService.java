@@ -0,0 +1,107 @@
+package com.menubot.menubot.menu.service;
+
+import com.menubot.menubot.menu.algorithm.ReasonRenderer;
+import com.menubot.menubot.menu.algorithm.RecommendationAlgorithm;
+import com.menubot.menubot.menu.algorithm.TasteProfile;
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalog;
+import com.menubot.menubot.menu.dto.MenuConstraint;
+import com.menubot.menubot.menu.dto.MenuRecommendationDto;
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.entity.UserGroup;
+import com.menubot.menubot.menu.repository.UserGroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 그룹 점심 추천
+ * - 구성원 취향은 IN 쿼리로 한 번에 로딩하고, 병합된 프로필로 조건에 맞는 메뉴를 한 번만 점수 계산
+ * - 메뉴는 카탈로그 스냅샷에서 가져옴 (요청마다 전체 메뉴 조회 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupRecommendationService {
+
+    private final PreferenceService preferenceService;
+    private final UserGroupRepository userGroupRepository;
+    private final MenuCatalog menuCatalog;
+    private final RecommendationAlgorithm recommendationAlgorithm;
+    private final ReasonRenderer reasonRenderer;
+
+    /**
+     * 그룹 구성원에게 조건(카테고리/매운 정도/칼로리)에 맞는 메뉴를 추천합니다 (식사 타입별 인기 메뉴 반영)
+     */
+    public List<MenuRecommendationDto> recommendMenus(List<String> memberIds, int count,
+                                                      MealType mealType, MenuConstraint constraint) {
+        log.debug("Recommending {} {} menus for group of {}", count, mealType, memberIds.size());
+
+        CatalogSnapshot catalog = menuCatalog.snapshot();
+        if (catalog.isEmpty()) {
+            log.warn("No menus available in database");
+            return List.of();
+        }
+
+        List<Menu> candidates = catalog.select(constraint);
+        if (candidates.isEmpty()) {
+            log.debug("No menus match constraint: {}", constraint.describe());
+            return List.of();
+        }
+
+        // 구성원 전체를 IN 쿼리로 한 번에 로딩 (구성원 수와 무관하게 커넥션 하나, 쿼리 2~3번)
+        TasteProfile groupProfile = TasteProfile.merge(preferenceService.loadProfiles(memberIds).values());
+
+        List<MenuRecommendationDto> recommendations = recommendationAlgorithm.recommend(groupProfile, candidates, count, mealType);
+        reasonRenderer.renderAll(recommendations);
+        return recommendations;
+    }
+
+    /**
+     * 요청자 + 파라미터로 받은 구성원 + 요청자가 저장한 그룹 구성원을 합칩니다 (중복 제거, 순서 유지)
+     */
+    public List<String> resolveMembers(String requesterId, String groupName, List<String> memberIds) {
+        Set<String> members = new LinkedHashSet<>();
+        members.add(requesterId);
+        members.addAll(memberIds);
+
+        if (groupName != null && !groupName.isBlank()) {
+            findGroup(requesterId, groupName).ifPresentOrElse(
+                    group -> members.addAll(group.getMemberIds()),
+                    () -> log.debug("Group not found: {} (owner: {})", groupName, requesterId)
+            );
+        }
+
+        return new ArrayList<>(members);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<UserGroup> findGroup(String ownerId, String name) {
+        return userGroupRepository.findByOwnerIdAndName(ownerId, name);
+    }
+
+    /**
+     * 그룹 저장 (그룹은 만든 사람 소유 - 같은 소유자의 같은 이름이면 구성원 교체)
+     * 다른 사용자가 같은 이름으로 저장하면 그 사용자의 그룹이 따로 만들어집니다
+     */
+    @Transactional
+    public UserGroup saveGroup(String ownerId, String name, List<String> memberIds) {
+        UserGroup group = userGroupRepository.findByOwnerIdAndName(ownerId, name)
+                .orElseGet(() -> UserGroup.builder()
+                        .ownerId(ownerId)
+                        .name(name)
+                        .memberIds(List.of())
+                        .build());
+
+        group.replaceMembers(new ArrayList<>(new LinkedHashSet<>(memberIds)));
+        return userGroupRepository.save(group);
+    }
+}
@@ -0,0 +1,303 @@
+package com.menubot.menubot.menu.service;
+
+import com.menubot.menubot.menu.dto.MealStatsDto;
+import com.menubot.menubot.menu.dto.MealStatsReportDto;
+import com.menubot.menubot.menu.entity.MealHistory;
+import com.menubot.menubot.menu.entity.MealStatsBucket;
+import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.entity.StatsPeriod;
+import com.menubot.menubot.menu.event.MealRecordedEvent;
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.repository.MealStatsBucketRepository;
+import com.menubot.menubot.menu.repository.MenuRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 식사 통계 (칼로리, 매운 정도, 카테고리, 연속 기록)
+ * - 식사 기록이 커밋되면 별도 트랜잭션에서 일/주/월 행을 갱신 (통계 충돌이 식사 기록을 롤백하지 않음)
+ * - 갱신에 끝내 실패하면 그 사용자 행을 이력으로 다시 계산
+ * - 조회는 기간에 걸친 몇 개 행만 합산 (이력 스캔 없음)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class MealStatsService {
+
+    private static final int RECORD_ATTEMPTS = 2;
+
+    private final MealStatsBucketRepository mealStatsBucketRepository;
+    private final MealHistoryRepository mealHistoryRepository;
+    private final MenuRepository menuRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate statsTransaction;
+
+    public MealStatsService(MealStatsBucketRepository mealStatsBucketRepository,
+                            MealHistoryRepository mealHistoryRepository,
+                            MenuRepository menuRepository,
+                            EntityManager entityManager,
+                            PlatformTransactionManager transactionManager) {
+        this.mealStatsBucketRepository = mealStatsBucketRepository;
+        this.mealHistoryRepository = mealHistoryRepository;
+        this.menuRepository = menuRepository;
+        this.entityManager = entityManager;
+        this.statsTransaction = new TransactionTemplate(transactionManager);
+        this.statsTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 식사 기록이 커밋된 뒤 통계에 반영합니다
+     * 같은 사용자의 동시 기록이 같은 구간 행을 먼저 만들었으면 한 번 더 시도 (이미 있는 행을 갱신)
+     * 그래도 실패하면 이 식사가 통계에서 빠지지 않도록 사용자 행 전체를 이력으로 다시 계산
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRecorded(MealRecordedEvent event) {
+        for (int attempt = 1; attempt <= RECORD_ATTEMPTS; attempt++) {
+            try {
+                statsTransaction.executeWithoutResult(status -> record(event));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Meal stats conflict (attempt {}) - userId: {}", attempt, event.kakaoUserId());
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Meal stats update failed - userId: {}, menuId: {}", event.kakaoUserId(), event.menuId(), e);
+                break;
+            }
+        }
+        rebuildUser(event.kakaoUserId());
+    }
+
+    /**
+     * 사용자 통계 행을 지우고 식사 이력으로 다시 계산 (증분 갱신에 실패했을 때)
+     * 이것마저 실패하면 오류 로그만 남기고, 그 사용자 통계는 다음 재계산 전까지 모자란 채로 남음
+     */
+    private void rebuildUser(String userId) {
+        try {
+            int rows = statsTransaction.execute(status -> {
+                List<MealStatsBucket> existing = mealStatsBucketRepository.findByKakaoUserId(userId);
+                mealStatsBucketRepository.deleteAll(existing);
+                mealStatsBucketRepository.flush();
+
+                Map<BucketKey, MealStatsBucket> buckets = new LinkedHashMap<>();
+                for (MealHistory meal : mealHistoryRepository.findWithMenuByKakaoUserIdOrderByEatenAt(userId)) {
+                    accumulate(userId, meal, buckets);
+                }
+                mealStatsBucketRepository.saveAll(buckets.values());
+                return buckets.size();
+            });
+            log.info("Meal stats rebuilt from meal history - userId: {}, rows: {}", userId, rows);
+        } catch (DataAccessException | TransactionException e) {
+            log.error("Meal stats rebuild failed, stats stay incomplete - userId: {}", userId, e);
+        }
+    }
+
+    private void record(MealRecordedEvent event) {
+        Menu menu = menuRepository.findById(event.menuId()).orElse(null);
+        if (menu == null) {
+            return;
+        }
+        String userId = event.kakaoUserId();
+        List<MealStatsBucket> changed = add(menu, event.eatenAt().toLocalDate(),
+                (period, date) -> bucket(userId, period, date),
+                date -> mealStatsBucketRepository
+                        .findByKakaoUserIdAndPeriodAndBucketStart(userId, StatsPeriod.DAY, date)
+                        .map(MealStatsBucket::getStreak)
+                        .orElse(0));
+        mealStatsBucketRepository.saveAll(changed);
+    }
+
+    /**
+     * 통계 테이블이 비어 있으면 기존 식사 이력으로 한 번 채웁니다
+     * (통계 테이블 도입 전 기록이 통계/연속 기록에서 빠지지 않도록, 사용자 단위로 저장)
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (mealStatsBucketRepository.count() > 0) {
+            return;
+        }
+
+        int users = 0;
+        int rows = 0;
+        try (Stream<MealHistory> meals = mealHistoryRepository.streamAllWithMenuOrderByUserAndEatenAt()) {
+            String currentUser = null;
+            Map<BucketKey, MealStatsBucket> buckets = new LinkedHashMap<>();
+
+            for (MealHistory meal : (Iterable<MealHistory>) meals::iterator) {
+                if (!meal.getKakaoUserId().equals(currentUser)) {
+                    rows += saveBackfilled(buckets);
+                    users += currentUser != null ? 1 : 0;
+                    currentUser = meal.getKakaoUserId();
+                }
+                accumulate(currentUser, meal, buckets);
+            }
+            rows += saveBackfilled(buckets);
+            users += currentUser != null ? 1 : 0;
+        }
+
+        if (rows > 0) {
+            log.info("Meal stats backfilled from meal history - users: {}, rows: {}", users, rows);
+        }
+    }
+
+    /**
+     * 사용자 한 명분 행 저장 후 영속성 컨텍스트 비움 (읽어 온 이력/저장한 행이 전체 사용자만큼 쌓이지 않도록)
+     */
+    private int saveBackfilled(Map<BucketKey, MealStatsBucket> buckets) {
+        int saved = buckets.size();
+        if (saved > 0) {
+            mealStatsBucketRepository.saveAll(buckets.values());
+            buckets.clear();
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return saved;
+    }
+
+    /**
+     * 식사 시각 순으로 넘겨받은 한 사용자의 식사를 메모리의 구간 행에 반영
+     */
+    private void accumulate(String userId, MealHistory meal, Map<BucketKey, MealStatsBucket> buckets) {
+        add(meal.getMenu(), meal.getEatenAt().toLocalDate(),
+                (period, date) -> buckets.computeIfAbsent(
+                        new BucketKey(period, period.bucketStart(date)),
+                        key -> newBucket(userId, key.period(), key.start())),
+                date -> {
+                    MealStatsBucket previous = buckets.get(new BucketKey(StatsPeriod.DAY, date));
+                    return previous != null ? previous.getStreak() : 0;
+                });
+    }
+
+    /**
+     * 식사 한 끼를 일/주/월 행에 반영하고 바뀐 행을 돌려줍니다
+     * 그날 첫 식사일 때만 연속 기록 갱신 (전날 기록 + 1)
+     *
+     * @param bucket     구간 행 조회 (없으면 새 행)
+     * @param dayStreak  해당 날짜의 연속 기록 (기록 없으면 0)
+     */
+    private List<MealStatsBucket> add(Menu menu, LocalDate date,
+                                      BiFunction<StatsPeriod, LocalDate, MealStatsBucket> bucket,
+                                      ToIntFunction<LocalDate> dayStreak) {
+        MealStatsBucket day = bucket.apply(StatsPeriod.DAY, date);
+        MealStatsBucket week = bucket.apply(StatsPeriod.WEEK, date);
+        MealStatsBucket month = bucket.apply(StatsPeriod.MONTH, date);
+
+        if (day.getMealCount() == 0) {
+            int streak = dayStreak.applyAsInt(date.minusDays(1)) + 1;
+            day.updateStreak(date, streak);
+            week.updateStreak(date, streak);
+            month.updateStreak(date, streak);
+        }
+
+        day.add(menu);
+        week.add(menu);
+        month.add(menu);
+        return List.of(day, week, month);
+    }
+
+    /**
+     * 이번 주/이번 달 통계와 현재 연속 기록
+     */
+    public MealStatsReportDto getReport(String userId, LocalDate today) {
+        List<MealStatsBucket> recentDays = mealStatsBucketRepository
+                .findByKakaoUserIdAndPeriodAndBucketStartBetween(userId, StatsPeriod.DAY, today.minusDays(1), today);
+
+        // 오늘 기록이 없으면 어제까지의 연속 기록
+        int currentStreak = recentDays.stream()
+                .max((a, b) -> a.getBucketStart().compareTo(b.getBucketStart()))
+                .map(MealStatsBucket::getStreak)
+                .orElse(0);
+
+        return MealStatsReportDto.builder()
+                .week(getStats(userId, StatsPeriod.WEEK, today, today))
+                .month(getStats(userId, StatsPeriod.MONTH, today, today))
+                .currentStreak(currentStreak)
+                .build();
+    }
+
+    /**
+     * 기간 통계 - from~to 가 걸친 구간 행을 합산 (예: 최근 4주 = 주 단위 행 4개)
+     */
+    public MealStatsDto getStats(String userId, StatsPeriod period, LocalDate from, LocalDate to) {
+        LocalDate start = period.bucketStart(from);
+        List<MealStatsBucket> buckets = mealStatsBucketRepository
+                .findByKakaoUserIdAndPeriodAndBucketStartBetween(userId, period, start, period.bucketStart(to));
+
+        int mealCount = 0;
+        long calorieSum = 0;
+        int calorieCount = 0;
+        int spicySum = 0;
+        int spicyCount = 0;
+        int longestStreak = 0;
+        Map<String, Integer> categoryCounts = new HashMap<>();
+
+        for (MealStatsBucket bucket : buckets) {
+            mealCount += bucket.getMealCount();
+            calorieSum += bucket.getCalorieSum();
+            calorieCount += bucket.getCalorieCount();
+            spicySum += bucket.getSpicySum();
+            spicyCount += bucket.getSpicyCount();
+            longestStreak = Math.max(longestStreak, bucket.getStreak());
+            bucket.getCategoryCounts().forEach((category, count) -> categoryCounts.merge(category, count, Integer::sum));
+        }
+
+        Map<String, Integer> sortedCategories = new LinkedHashMap<>();
+        categoryCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sortedCategories.put(entry.getKey(), entry.getValue()));
+
+        return MealStatsDto.builder()
+                .period(period)
+                .from(start)
+                .to(to)
+                .mealCount(mealCount)
+                .totalCalories(calorieSum)
+                .averageCalories(calorieCount > 0 ? (int) (calorieSum / calorieCount) : null)
+                .averageSpicyLevel(spicyCount > 0 ? spicySum / (double) spicyCount : null)
+                .categoryCounts(sortedCategories)
+                .longestStreak(longestStreak)
+                .build();
+    }
+
+    private MealStatsBucket bucket(String userId, StatsPeriod period, LocalDate date) {
+        LocalDate start = period.bucketStart(date);
+        return mealStatsBucketRepository.findByKakaoUserIdAndPeriodAndBucketStart(userId, period, start)
+                .orElseGet(() -> newBucket(userId, period, start));
+    }
+
+    private static MealStatsBucket newBucket(String userId, StatsPeriod period, LocalDate start) {
+        return MealStatsBucket.builder()
+                .kakaoUserId(userId)
+                .period(period)
+                .bucketStart(start)
+                .build();
+    }
+
+    private record BucketKey(StatsPeriod period, LocalDate start) {
+    }
+}
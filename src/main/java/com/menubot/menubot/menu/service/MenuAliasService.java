@@ -0,0 +1,132 @@
+package com.menubot.menubot.menu.service;
+
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalogChangedEvent;
+import com.menubot.menubot.menu.dto.MenuAliasDto;
+import com.menubot.menubot.menu.dto.MenuMergeResultDto;
+import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.entity.MenuAlias;
+import com.menubot.menubot.menu.event.MenuMergedEvent;
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.repository.MenuAliasRepository;
+import com.menubot.menubot.menu.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 메뉴 별칭 등록 및 중복 메뉴 병합 (관리자용)
+ * 변경이 커밋되면 카탈로그가 다시 로딩되면서 별칭 테이블도 새로 만들어짐
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MenuAliasService {
+
+    private final MenuRepository menuRepository;
+    private final MenuAliasRepository menuAliasRepository;
+    private final MealHistoryRepository mealHistoryRepository;
+    private final PreferenceService preferenceService;
+    private final RatingService ratingService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 별칭 등록 (이미 있으면 대상 메뉴만 변경)
+     */
+    public MenuAliasDto addAlias(String alias, Long menuId) {
+        if (alias == null || alias.isBlank()) {
+            throw new IllegalArgumentException("별칭이 비어 있습니다");
+        }
+
+        Menu menu = findMenu(menuId);
+        String normalized = CatalogSnapshot.normalizeAlias(alias);
+
+        // 다른 메뉴의 대표 이름과 겹치면 거절 (입력 그대로 / 정규화한 이름으로 유니크 인덱스 조회)
+        Stream.of(alias.trim(), normalized)
+                .distinct()
+                .map(menuRepository::findByName)
+                .flatMap(Optional::stream)
+                .filter(other -> !other.getId().equals(menuId))
+                .findFirst()
+                .ifPresent(other -> {
+                    throw new IllegalArgumentException("다른 메뉴의 이름입니다 - 병합을 사용하세요: " + other.getName());
+                });
+
+        saveAlias(normalized, menu);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(menuId));
+        log.info("Menu alias saved - alias: {}, menu: {}", normalized, menu.getName());
+
+        return MenuAliasDto.builder()
+                .alias(normalized)
+                .menuId(menu.getId())
+                .menuName(menu.getName())
+                .build();
+    }
+
+    /**
+     * 중복 메뉴 병합: 이력/별칭/선호도/평점을 대표 메뉴로 옮기고 중복 메뉴 삭제
+     * 중복 메뉴의 이름은 대표 메뉴의 별칭으로 남김
+     */
+    public MenuMergeResultDto mergeMenus(Long sourceId, Long targetId) {
+        if (sourceId == null || sourceId.equals(targetId)) {
+            throw new IllegalArgumentException("서로 다른 두 메뉴를 지정하세요");
+        }
+
+        Menu source = findMenu(sourceId);
+        Menu target = findMenu(targetId);
+        String sourceName = source.getName();
+        String targetName = target.getName();
+
+        // 1. 선호도/평점 (사용자별로 대표 메뉴 행과 합침)
+        int movedPreferences = preferenceService.mergeMenu(sourceId, targetId);
+        int movedRatings = ratingService.mergeMenu(sourceId, targetId);
+
+        // 2. 이력/별칭 일괄 이동 (벌크 update - 영속성 컨텍스트 초기화됨)
+        int movedHistories = mealHistoryRepository.reassignMenu(source, target);
+        int movedAliases = menuAliasRepository.reassignMenu(source, target);
+
+        // 3. 중복 메뉴 이름을 별칭으로 남기고 삭제
+        Menu targetRef = menuRepository.getReferenceById(targetId);
+        menuRepository.deleteById(sourceId);
+        menuRepository.flush();
+        saveAlias(CatalogSnapshot.normalizeAlias(sourceName), targetRef);
+
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(targetId));
+        eventPublisher.publishEvent(new MenuMergedEvent(sourceId, targetId));
+        log.info("Menus merged - {}({}) -> {}({}), histories: {}, aliases: {}, preferences: {}, ratings: {}",
+                sourceName, sourceId, targetName, targetId,
+                movedHistories, movedAliases, movedPreferences, movedRatings);
+
+        return MenuMergeResultDto.builder()
+                .targetId(targetId)
+                .targetName(targetName)
+                .movedHistories(movedHistories)
+                .movedAliases(movedAliases)
+                .movedPreferences(movedPreferences)
+                .movedRatings(movedRatings)
+                .build();
+    }
+
+    private void saveAlias(String normalized, Menu menu) {
+        menuAliasRepository.findByAlias(normalized)
+                .ifPresentOrElse(existing -> existing.changeMenu(menu),
+                        () -> menuAliasRepository.save(MenuAlias.builder()
+                                .alias(normalized)
+                                .menu(menu)
+                                .build()));
+    }
+
+    private Menu findMenu(Long menuId) {
+        if (menuId == null) {
+            throw new IllegalArgumentException("메뉴 ID가 필요합니다");
+        }
+        return menuRepository.findById(menuId)
+                .orElseThrow(() -> new IllegalArgumentException("메뉴를 찾을 수 없습니다: " + menuId));
+    }
+}
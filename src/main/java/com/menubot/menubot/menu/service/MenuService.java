@@ -1,11 +1,14 @@
 package com.menubot.menubot.menu.service;
 
+import com.menubot.menubot.menu.catalog.MenuCatalogChangedEvent;
 import com.menubot.menubot.menu.entity.Menu;
 import com.menubot.menubot.menu.repository.MenuRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
 public class MenuService {
 
     private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<Menu> getAllMenus() {
         return menuRepository.findAll();
@@ -24,13 +28,26 @@ public class MenuService {
         return menuRepository.findByName(name);
     }
 
+    public List<Menu> findByNames(Collection<String> names) {
+        return menuRepository.findByNameIn(names);
+    }
+
     public List<Menu> findByCategory(String category) {
         return menuRepository.findByCategory(category);
     }
 
     @Transactional
     public Menu saveMenu(Menu menu) {
-        return menuRepository.save(menu);
+        Menu saved = menuRepository.save(menu);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    @Transactional
+    public List<Menu> saveMenus(List<Menu> menus) {
+        List<Menu> saved = menuRepository.saveAll(menus);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent(null));
+        return saved;
     }
 
     public List<Menu> searchByName(String keyword) {
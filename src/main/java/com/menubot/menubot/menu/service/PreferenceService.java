@@ -0,0 +1,197 @@
+package com.menubot.menubot.menu.service;
+
+import com.menubot.menubot.menu.algorithm.TasteProfile;
+import com.menubot.menubot.menu.entity.MealHistory;
+import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.entity.PreferenceScope;
+import com.menubot.menubot.menu.entity.PreferenceScore;
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.repository.PreferenceScoreRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 x 카테고리 / 사용자 x 메뉴 시간 감쇠 선호도
+ * - 식사 기록 시 행 두 개만 갱신 (O(1))
+ * - 추천 시 사용자 행만 읽고 조회 시점 기준으로 감쇠 적용
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PreferenceService {
+
+    private final PreferenceScoreRepository preferenceScoreRepository;
+    private final MealHistoryRepository mealHistoryRepository;
+    private final RatingService ratingService;
+    private final double decayPerSecond;
+
+    public PreferenceService(PreferenceScoreRepository preferenceScoreRepository,
+                             MealHistoryRepository mealHistoryRepository,
+                             RatingService ratingService,
+                             @Value("${menubot.preference.half-life-days:30}") double halfLifeDays) {
+        this.preferenceScoreRepository = preferenceScoreRepository;
+        this.mealHistoryRepository = mealHistoryRepository;
+        this.ratingService = ratingService;
+        this.decayPerSecond = Math.log(2) / (halfLifeDays * 24 * 3600);
+    }
+
+    /**
+     * 사용자 취향 프로필
+     * 선호도 행이 아직 없는 기존 사용자는 메뉴별 이력 집계로 계산 (다음 식사 기록 때 행 생성)
+     */
+    public TasteProfile loadProfile(String userId) {
+        List<PreferenceScore> scores = preferenceScoreRepository.findByKakaoUserId(userId);
+
+        if (scores.isEmpty()) {
+            return TasteProfile.fromMenuSummaries(
+                    summarizeMenus(List.of(userId)).getOrDefault(userId, List.of()));
+        }
+
+        return TasteProfile.fromPreferences(scores, ratingService.loadMenuRatings(userId), decayPerSecond);
+    }
+
+    /**
+     * 여러 사용자 프로필을 한 번에 로딩 (사용자당 쿼리 없이 IN 쿼리 2~3번)
+     */
+    public Map<String, TasteProfile> loadProfiles(Collection<String> userIds) {
+        Map<String, List<PreferenceScore>> scoresByUser = new HashMap<>(userIds.size() * 2);
+        for (PreferenceScore score : preferenceScoreRepository.findByKakaoUserIdIn(userIds)) {
+            scoresByUser.computeIfAbsent(score.getKakaoUserId(), id -> new ArrayList<>()).add(score);
+        }
+        Map<String, Map<Long, Double>> ratingsByUser = ratingService.loadMenuRatings(userIds);
+
+        Map<String, TasteProfile> profiles = new HashMap<>(userIds.size() * 2);
+        scoresByUser.forEach((userId, scores) -> profiles.put(userId, TasteProfile.fromPreferences(
+                scores, ratingsByUser.getOrDefault(userId, Map.of()), decayPerSecond)));
+
+        // 선호도 행이 아직 없는 사용자는 메뉴별 이력 집계로 계산
+        List<String> missing = userIds.stream()
+                .filter(userId -> !profiles.containsKey(userId))
+                .toList();
+        if (!missing.isEmpty()) {
+            Map<String, List<TasteProfile.MenuSummary>> summariesByUser = summarizeMenus(missing);
+            for (String userId : missing) {
+                profiles.put(userId, TasteProfile.fromMenuSummaries(summariesByUser.getOrDefault(userId, List.of())));
+            }
+        }
+        return profiles;
+    }
+
+    private Map<String, List<TasteProfile.MenuSummary>> summarizeMenus(Collection<String> userIds) {
+        Map<String, List<TasteProfile.MenuSummary>> summariesByUser = new HashMap<>(userIds.size() * 2);
+        for (Object[] row : mealHistoryRepository.summarizeMenusByUser(userIds)) {
+            long ratings = ((Number) row[6]).longValue();
+            Double averageRating = ratings > 0 ? ((Number) row[5]).doubleValue() / ratings : null;
+            summariesByUser.computeIfAbsent((String) row[0], id -> new ArrayList<>())
+                    .add(new TasteProfile.MenuSummary((Long) row[1], (String) row[2],
+                            ((Number) row[3]).longValue(), (LocalDateTime) row[4], averageRating));
+        }
+        return summariesByUser;
+    }
+
+    /**
+     * 식사를 선호도에 반영합니다 (식사 이력 저장 후 같은 트랜잭션에서 호출)
+     * 같은 사용자의 동시 기록이 먼저 행을 만들면 유니크 제약 위반으로 식사 기록 트랜잭션 전체가 롤백되고,
+     * 호출한 쪽에서 다시 기록하면 이미 있는 행을 갱신합니다
+     */
+    @Transactional
+    public void record(String userId, List<MealHistory> meals) {
+        if (!preferenceScoreRepository.existsByKakaoUserId(userId)) {
+            // 처음 한 번만 기존 이력 전체로 초기화 (방금 저장한 식사 포함)
+            backfill(userId);
+            return;
+        }
+
+        // 이번 식사들이 건드리는 행만 범위별로 한 번에 읽고, 갱신/생성 후 한 번에 저장
+        Set<String> categories = new HashSet<>();
+        Set<String> menuKeys = new HashSet<>();
+        for (MealHistory meal : meals) {
+            categories.add(meal.getMenu().getCategory());
+            menuKeys.add(String.valueOf(meal.getMenu().getId()));
+        }
+
+        Map<String, PreferenceScore> scores = new HashMap<>();
+        for (PreferenceScore score : preferenceScoreRepository
+                .findByKakaoUserIdAndScopeAndTargetKeyIn(userId, PreferenceScope.CATEGORY, categories)) {
+            scores.put("C:" + score.getTargetKey(), score);
+        }
+        for (PreferenceScore score : preferenceScoreRepository
+                .findByKakaoUserIdAndScopeAndTargetKeyIn(userId, PreferenceScope.MENU, menuKeys)) {
+            scores.put("M:" + score.getTargetKey(), score);
+        }
+
+        for (MealHistory meal : meals) {
+            Menu menu = meal.getMenu();
+            add(scores, userId, PreferenceScope.CATEGORY, "C:", menu.getCategory(), meal.getEatenAt());
+            add(scores, userId, PreferenceScope.MENU, "M:", String.valueOf(menu.getId()), meal.getEatenAt());
+        }
+        preferenceScoreRepository.saveAll(scores.values());
+    }
+
+    /**
+     * 메뉴 병합 시 사용자 x 메뉴 선호도를 대표 메뉴로 합칩니다
+     * (카테고리 선호도는 그대로 두고 감쇠로 자연스럽게 맞춰짐)
+     */
+    @Transactional
+    public int mergeMenu(Long sourceMenuId, Long targetMenuId) {
+        String sourceKey = String.valueOf(sourceMenuId);
+        String targetKey = String.valueOf(targetMenuId);
+        List<PreferenceScore> sources = preferenceScoreRepository.findByScopeAndTargetKey(PreferenceScope.MENU, sourceKey);
+
+        for (PreferenceScore source : sources) {
+            preferenceScoreRepository
+                    .findByKakaoUserIdAndScopeAndTargetKey(source.getKakaoUserId(), PreferenceScope.MENU, targetKey)
+                    .ifPresentOrElse(target -> {
+                        target.absorb(source, decayPerSecond);
+                        preferenceScoreRepository.delete(source);
+                    }, () -> source.retarget(targetKey));
+        }
+        return sources.size();
+    }
+
+    private void add(Map<String, PreferenceScore> scores, String userId, PreferenceScope scope,
+                     String prefix, String targetKey, LocalDateTime eatenAt) {
+        scores.computeIfAbsent(prefix + targetKey, key -> PreferenceScore.builder()
+                        .kakaoUserId(userId)
+                        .scope(scope)
+                        .targetKey(targetKey)
+                        .build())
+                .add(eatenAt, decayPerSecond);
+    }
+
+    private void backfill(String userId) {
+        List<MealHistory> histories = mealHistoryRepository.findWithMenuByKakaoUserId(userId);
+        Map<String, PreferenceScore> scores = new HashMap<>();
+
+        for (MealHistory history : histories) {
+            Menu menu = history.getMenu();
+            scores.computeIfAbsent("C:" + menu.getCategory(), key -> PreferenceScore.builder()
+                            .kakaoUserId(userId)
+                            .scope(PreferenceScope.CATEGORY)
+                            .targetKey(menu.getCategory())
+                            .build())
+                    .add(history.getEatenAt(), decayPerSecond);
+            scores.computeIfAbsent("M:" + menu.getId(), key -> PreferenceScore.builder()
+                            .kakaoUserId(userId)
+                            .scope(PreferenceScope.MENU)
+                            .targetKey(String.valueOf(menu.getId()))
+                            .build())
+                    .add(history.getEatenAt(), decayPerSecond);
+        }
+
+        preferenceScoreRepository.saveAll(scores.values());
+        log.debug("Preference scores initialized - userId: {}, meals: {}, rows: {}",
+                userId, histories.size(), scores.size());
+    }
+}
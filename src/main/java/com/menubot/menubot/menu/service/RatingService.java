@@ -0,0 +1,152 @@
+package com.menubot.menubot.menu.service;
+
+import com.menubot.menubot.menu.entity.MealHistory;
+import com.menubot.menubot.menu.entity.RatingAggregate;
+import com.menubot.menubot.menu.event.MealRatedEvent;
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.repository.RatingAggregateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 식사 평점 기록 및 사용자 x 메뉴 평점 누적
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RatingService {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    private final MealHistoryRepository mealHistoryRepository;
+    private final RatingAggregateRepository ratingAggregateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public static boolean isValid(Integer rating) {
+        return rating != null && rating >= MIN_RATING && rating <= MAX_RATING;
+    }
+
+    /**
+     * 식사에 평점을 매깁니다 (historyId 가 없으면 가장 최근 식사)
+     */
+    @Transactional
+    public Optional<MealHistory> rateMeal(String userId, Long historyId, int rating) {
+        Optional<MealHistory> target = historyId != null
+                ? mealHistoryRepository.findById(historyId).filter(h -> h.getKakaoUserId().equals(userId))
+                : mealHistoryRepository.findFirstByKakaoUserIdOrderByEatenAtDescIdDesc(userId);
+
+        target.ifPresent(history -> {
+            Integer previous = history.getRating();
+            history.rate(rating);
+            accumulate(userId, history.getMenu().getId(), previous, rating);
+            eventPublisher.publishEvent(new MealRatedEvent(userId, history.getMenu().getId(), rating));
+            log.debug("Meal rated - userId: {}, historyId: {}, rating: {}", userId, history.getId(), rating);
+        });
+
+        return target;
+    }
+
+    /**
+     * 누적 평점 갱신 (식사 기록 시 평점이 함께 들어온 경우에도 사용)
+     */
+    @Transactional
+    public void accumulate(String userId, Long menuId, Integer previousRating, int rating) {
+        RatingAggregate aggregate = ratingAggregateRepository.findByKakaoUserIdAndMenuId(userId, menuId)
+                .orElseGet(() -> RatingAggregate.builder()
+                        .kakaoUserId(userId)
+                        .menuId(menuId)
+                        .build());
+
+        aggregate.apply(previousRating, rating);
+        ratingAggregateRepository.save(aggregate);
+    }
+
+    /**
+     * 메뉴 병합 시 누적 평점을 대표 메뉴로 합칩니다
+     */
+    @Transactional
+    public int mergeMenu(Long sourceMenuId, Long targetMenuId) {
+        List<RatingAggregate> sources = ratingAggregateRepository.findByMenuId(sourceMenuId);
+
+        for (RatingAggregate source : sources) {
+            ratingAggregateRepository.findByKakaoUserIdAndMenuId(source.getKakaoUserId(), targetMenuId)
+                    .ifPresentOrElse(target -> {
+                        target.absorb(source);
+                        ratingAggregateRepository.delete(source);
+                    }, () -> source.retarget(targetMenuId));
+        }
+        return sources.size();
+    }
+
+    /**
+     * 누적 평점 테이블이 비어 있으면 기존 이력의 평점으로 한 번 채웁니다
+     * (누적 테이블 도입 전에 매긴 평점이 추천에서 빠지지 않도록)
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (ratingAggregateRepository.count() > 0) {
+            return;
+        }
+
+        List<RatingAggregate> aggregates = new ArrayList<>();
+        for (Object[] row : mealHistoryRepository.sumRatingsByUserAndMenu()) {
+            RatingAggregate aggregate = RatingAggregate.builder()
+                    .kakaoUserId((String) row[0])
+                    .menuId((Long) row[1])
+                    .build();
+            aggregate.addAll(((Number) row[2]).intValue(), ((Number) row[3]).intValue());
+            aggregates.add(aggregate);
+        }
+
+        if (!aggregates.isEmpty()) {
+            ratingAggregateRepository.saveAll(aggregates);
+            log.info("Rating aggregates backfilled from meal history - rows: {}", aggregates.size());
+        }
+    }
+
+    /**
+     * 메뉴별 평균 평점 (누적값 조회만, 이력 스캔 없음)
+     */
+    public Map<Long, Double> loadMenuRatings(String userId) {
+        List<RatingAggregate> aggregates = ratingAggregateRepository.findByKakaoUserId(userId);
+        Map<Long, Double> ratings = new HashMap<>(aggregates.size() * 2);
+        for (RatingAggregate aggregate : aggregates) {
+            if (aggregate.getRatingCount() > 0) {
+                ratings.put(aggregate.getMenuId(), aggregate.average());
+            }
+        }
+        return ratings;
+    }
+
+    /**
+     * 여러 사용자의 메뉴별 평균 평점 (쿼리 한 번)
+     */
+    public Map<String, Map<Long, Double>> loadMenuRatings(Collection<String> userIds) {
+        Map<String, Map<Long, Double>> ratings = new HashMap<>(userIds.size() * 2);
+        for (RatingAggregate aggregate : ratingAggregateRepository.findByKakaoUserIdIn(userIds)) {
+            if (aggregate.getRatingCount() > 0) {
+                ratings.computeIfAbsent(aggregate.getKakaoUserId(), id -> new HashMap<>())
+                        .put(aggregate.getMenuId(), aggregate.average());
+            }
+        }
+        return ratings;
+    }
+}
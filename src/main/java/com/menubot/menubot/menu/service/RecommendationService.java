@@ -1,18 +1,40 @@
 package com.menubot.menubot.menu.service;
 
+import com.menubot.menubot.menu.algorithm.ReasonRenderer;
 import com.menubot.menubot.menu.algorithm.RecommendationAlgorithm;
+import com.menubot.menubot.menu.algorithm.TasteProfile;
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalog;
+import com.menubot.menubot.menu.dto.HistoryCursor;
+import com.menubot.menubot.menu.dto.MealHistoryDto;
+import com.menubot.menubot.menu.dto.MealHistoryPageDto;
+import com.menubot.menubot.menu.dto.MenuConstraint;
 import com.menubot.menubot.menu.dto.MenuRecommendationDto;
 import com.menubot.menubot.menu.entity.MealHistory;
 import com.menubot.menubot.menu.entity.MealType;
 import com.menubot.menubot.menu.entity.Menu;
+import com.menubot.menubot.menu.event.MealRecordedEvent;
 import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.trending.TrendingTracker;
+import com.menubot.menubot.menu.util.parser.MessageParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -22,63 +44,165 @@ public class RecommendationService {
 
     private final MealHistoryRepository mealHistoryRepository;
     private final MenuService menuService;
+    private final MenuCatalog menuCatalog;
+    private final PreferenceService preferenceService;
     private final RecommendationAlgorithm recommendationAlgorithm;
+    private final ReasonRenderer reasonRenderer;
+    private final TrendingTracker trendingTracker;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자에게 메뉴를 추천합니다
      */
     public List<MenuRecommendationDto> recommendMenus(String userId, int count) {
-        log.debug("Recommending {} menus for user: {}", count, userId);
+        return recommendMenus(userId, count, MealType.at(LocalTime.now()), MenuConstraint.none());
+    }
 
-        // 사용자의 식사 이력 조회
-        List<MealHistory> histories = mealHistoryRepository.findByKakaoUserId(userId);
+    /**
+     * 조건(카테고리/매운 정도/칼로리)에 맞는 메뉴 중에서 추천합니다
+     */
+    public List<MenuRecommendationDto> recommendMenus(String userId, int count,
+                                                      MealType mealType, MenuConstraint constraint) {
+        log.debug("Recommending {} menus for user: {}", count, userId);
 
-        // 전체 메뉴 조회
-        List<Menu> allMenus = menuService.getAllMenus();
+        CatalogSnapshot catalog = menuCatalog.snapshot();
 
-        if (allMenus.isEmpty()) {
+        if (catalog.isEmpty()) {
             log.warn("No menus available in database");
             return List.of();
         }
 
-        // 이력이 없으면 랜덤 추천
-        if (histories.isEmpty()) {
+        // 조건에 맞는 후보 (비트셋 교집합)
+        List<Menu> candidates = catalog.select(constraint);
+
+        if (candidates.isEmpty()) {
+            log.debug("No menus match constraint: {}", constraint.describe());
+            return List.of();
+        }
+
+        // 사용자 취향 (시간 감쇠 선호도)
+        TasteProfile profile = preferenceService.loadProfile(userId);
+
+        // 이력이 없으면 인기 메뉴, 인기 집계도 없으면 랜덤 추천
+        if (profile.isEmpty()) {
+            List<MenuRecommendationDto> trending = trendingRecommend(catalog, constraint, mealType, count);
+            if (!trending.isEmpty()) {
+                log.debug("No history found, returning trending recommendation");
+                return render(trending);
+            }
+
             log.debug("No history found, returning random recommendation");
-            MenuRecommendationDto random = recommendationAlgorithm.randomRecommend(allMenus);
-            return random != null ? List.of(random) : List.of();
+            MenuRecommendationDto random = recommendationAlgorithm.randomRecommend(candidates);
+            return random != null ? render(List.of(random)) : List.of();
         }
 
-        // 알고리즘으로 추천
-        return recommendationAlgorithm.recommend(histories, allMenus, count);
+        // 알고리즘으로 추천 (사유 문구는 상위 결과에만 렌더링)
+        return render(recommendationAlgorithm.recommend(profile, candidates, count, mealType));
     }
 
     /**
-     * 사용자가 메뉴를 먹었다고 기록합니다
+     * 한 번에 여러 메뉴를 기록합니다 (메뉴 조회 1회, 이력은 배치 insert)
      */
     @Transactional
-    public MealHistory recordMeal(String userId, String menuName, MealType mealType, Integer rating) {
-        log.debug("Recording meal - userId: {}, menu: {}, type: {}", userId, menuName, mealType);
-
-        // 메뉴 찾기 (없으면 생성)
-        Menu menu = menuService.findByName(menuName)
-                .orElseGet(() -> {
-                    log.debug("Menu not found, creating new menu: {}", menuName);
-                    return menuService.saveMenu(Menu.builder()
-                            .name(menuName)
-                            .category("기타") // 기본 카테고리
-                            .build());
-                });
-
-        // 식사 이력 저장
-        MealHistory history = MealHistory.builder()
-                .kakaoUserId(userId)
-                .menu(menu)
-                .mealType(mealType)
-                .eatenAt(LocalDateTime.now())
-                .rating(rating)
+    public List<MealHistory> recordMeals(String userId, List<MessageParser.ParsedMeal> meals) {
+        log.debug("Recording {} meals - userId: {}", meals.size(), userId);
+
+        // 메뉴 한 번에 찾기 (없는 메뉴는 한 번에 생성)
+        Map<String, String> canonicalNames = new HashMap<>();
+        Set<String> names = new LinkedHashSet<>();
+        for (MessageParser.ParsedMeal meal : meals) {
+            names.add(canonicalNames.computeIfAbsent(meal.menuName, this::canonicalName));
+        }
+
+        Map<String, Menu> menus = new HashMap<>();
+        for (Menu menu : menuService.findByNames(names)) {
+            menus.put(menu.getName(), menu);
+        }
+
+        List<Menu> missing = names.stream()
+                .filter(name -> !menus.containsKey(name))
+                .map(this::newMenu)
+                .toList();
+        if (!missing.isEmpty()) {
+            log.debug("Creating {} new menus", missing.size());
+            for (Menu menu : menuService.saveMenus(missing)) {
+                menus.put(menu.getName(), menu);
+            }
+        }
+
+        // 식사 이력 배치 저장 (구간마다 식사 타입에 맞는 시각으로 기록)
+        LocalDateTime now = LocalDateTime.now();
+        List<MealHistory> histories = new ArrayList<>(meals.size());
+        for (MessageParser.ParsedMeal meal : meals) {
+            histories.add(MealHistory.builder()
+                    .kakaoUserId(userId)
+                    .menu(menus.get(canonicalNames.get(meal.menuName)))
+                    .mealType(meal.mealType)
+                    .eatenAt(meal.mealType.eatenAtBefore(now))
+                    .build());
+        }
+
+        List<MealHistory> saved = mealHistoryRepository.saveAll(histories);
+        afterMealsSaved(userId, saved);
+        return saved;
+    }
+
+    /**
+     * 별칭/공백 차이를 대표 메뉴 이름으로 정리 (카탈로그 해시 조회)
+     */
+    private String canonicalName(String name) {
+        return menuCatalog.snapshot().resolve(name).map(Menu::getName).orElse(name);
+    }
+
+    private Menu newMenu(String menuName) {
+        return Menu.builder()
+                .name(menuName)
+                .category("기타") // 기본 카테고리
                 .build();
+    }
 
-        return mealHistoryRepository.save(history);
+    /**
+     * 선호도 반영 + 커밋 후 처리할 이벤트 발행 (식사 통계는 커밋 후 별도 트랜잭션에서 반영)
+     */
+    private void afterMealsSaved(String userId, List<MealHistory> saved) {
+        preferenceService.record(userId, saved);
+        for (MealHistory meal : saved) {
+            Menu menu = meal.getMenu();
+            eventPublisher.publishEvent(new MealRecordedEvent(
+                    meal.getId(), userId, menu.getId(), menu.getCategory(), meal.getMealType(), meal.getEatenAt()));
+        }
+    }
+
+    /**
+     * 인기 메뉴 추천 (DB 장애 시 사용, 트랜잭션/커넥션 없이 메모리만 사용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MenuRecommendationDto> recommendTrending(int count, MealType mealType, MenuConstraint constraint) {
+        CatalogSnapshot catalog = menuCatalog.snapshot();
+        return render(trendingRecommend(catalog, constraint, mealType, count));
+    }
+
+    /**
+     * 인기 메뉴 중 조건에 맞는 것 (메모리 카운터 + 카탈로그 스냅샷만 사용)
+     * 조건 확인은 속성 인덱스 비트셋으로 (후보 집합을 따로 만들지 않음)
+     */
+    private List<MenuRecommendationDto> trendingRecommend(CatalogSnapshot catalog, MenuConstraint constraint,
+                                                          MealType mealType, int count) {
+        BitSet allowed = constraint.isEmpty() ? null : catalog.getAttributeIndex().filter(constraint);
+
+        List<Menu> trendingMenus = new ArrayList<>();
+        for (Long menuId : trendingTracker.topMenuIds(mealType)) {
+            Integer position = catalog.getPositions().get(menuId);
+            if (position != null && (allowed == null || allowed.get(position))) {
+                trendingMenus.add(catalog.getMenus().get(position));
+            }
+        }
+        return recommendationAlgorithm.trendingRecommend(trendingMenus, count);
+    }
+
+    private List<MenuRecommendationDto> render(List<MenuRecommendationDto> recommendations) {
+        reasonRenderer.renderAll(recommendations);
+        return recommendations;
     }
 
     /**
@@ -89,6 +213,33 @@ public class RecommendationService {
         return mealHistoryRepository.findRecentMeals(userId, startDate);
     }
 
+    /**
+     * 사용자의 식사 이력을 한 페이지씩 조회합니다 (eatenAt, id 키셋 페이지네이션)
+     */
+    public MealHistoryPageDto getHistoryPage(String userId, String cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Limit limit = Limit.of(size + 1);
+
+        Optional<HistoryCursor> decoded = HistoryCursor.decode(cursor);
+        List<MealHistoryDto> meals = decoded
+                .map(c -> mealHistoryRepository.findHistoryPageAfter(userId, c.getEatenAt(), c.getId(), limit))
+                .orElseGet(() -> mealHistoryRepository.findHistoryPage(userId, limit));
+
+        if (meals.size() <= size) {
+            return MealHistoryPageDto.builder()
+                    .meals(meals)
+                    .firstPage(decoded.isEmpty())
+                    .build();
+        }
+
+        List<MealHistoryDto> page = meals.subList(0, size);
+        return MealHistoryPageDto.builder()
+                .meals(page)
+                .firstPage(decoded.isEmpty())
+                .nextCursor(HistoryCursor.of(page.get(size - 1)).encode())
+                .build();
+    }
+
     /**
      * 사용자가 가장 자주 먹는 메뉴를 조회합니다
      */
@@ -0,0 +1,135 @@
+package com.menubot.menubot.menu.similarity;
+
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 전체 사용자 식사 이력으로 메뉴-메뉴 동시 섭취 카운트를 계산합니다
+ * 전체 계산과 증분 모두 사용자별로 처음 먹은 순서의 앞쪽 메뉴만 반영해서 같은 결과가 나옴
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemSimilarityBuilder {
+
+    // 메뉴 쌍 수가 제곱으로 늘어나지 않도록 사용자당 반영 메뉴 수 제한 (처음 먹은 순서로 앞에서부터)
+    static final int MAX_MENUS_PER_USER = 200;
+
+    private final MealHistoryRepository mealHistoryRepository;
+
+    /**
+     * 지금까지 저장된 식사 이력 ID 최댓값 (없으면 0) - 전체 계산 범위의 기준
+     */
+    @Transactional(readOnly = true)
+    public long currentHistoryId() {
+        return mealHistoryRepository.findMaxId().orElse(0L);
+    }
+
+    /**
+     * 전체 재계산 (upToId 이하 이력만, 사용자별 서로 다른 메뉴 목록을 스트리밍으로 읽음)
+     */
+    @Transactional(readOnly = true)
+    public ItemSimilarityIndex.Builder countFromHistory(long upToId) {
+        long start = System.nanoTime();
+        ItemSimilarityIndex.Builder builder = new ItemSimilarityIndex.Builder();
+
+        int users = 0;
+        try (Stream<Object[]> rows = mealHistoryRepository.streamUserMenusInFirstEatenOrder(upToId)) {
+            String currentUser = null;
+            List<Long> menus = new ArrayList<>();
+
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                String userId = (String) row[0];
+                if (!userId.equals(currentUser)) {
+                    if (!menus.isEmpty()) {
+                        builder.addUser(menus);
+                        users++;
+                    }
+                    currentUser = userId;
+                    menus = new ArrayList<>();
+                }
+                if (menus.size() < MAX_MENUS_PER_USER) {
+                    menus.add((Long) row[1]);
+                }
+            }
+            if (!menus.isEmpty()) {
+                builder.addUser(menus);
+                users++;
+            }
+        }
+
+        log.info("Item similarity counts built - users: {}, pairs: {}, up to history {} in {}ms",
+                users, builder.pairCount(), upToId, (System.nanoTime() - start) / 1_000_000);
+        return builder;
+    }
+
+    /**
+     * 새로 기록된 식사로 인한 증분을 계산합니다 (사용자 전체를 IN 쿼리 한 번으로 로딩)
+     * 사용자가 처음 먹은 메뉴가 상한 안에 들면 상한 안의 다른 메뉴들과 새 쌍을 만듭니다
+     *
+     * @param recorded   사용자별 이번에 기록된 메뉴와 기록 횟수
+     * @param upToId     이번에 반영하는 이력 ID 최댓값 (이후 기록은 다음 반영 때)
+     * @param itemDeltas 메뉴별 사용자 수 증분 (출력)
+     * @param pairDeltas 메뉴 쌍별 동시 섭취 증분 (출력)
+     */
+    @Transactional(readOnly = true)
+    public void collectDeltas(Map<String, Map<Long, Integer>> recorded,
+                              long upToId,
+                              Map<Long, Integer> itemDeltas,
+                              Map<Long, Integer> pairDeltas) {
+
+        // 사용자 -> 처음 먹은 순서의 메뉴 (상한까지) / 메뉴별 기록 수
+        Map<String, List<Long>> keptMenus = new HashMap<>();
+        Map<String, Map<Long, Long>> totalCounts = new HashMap<>();
+        for (Object[] row : mealHistoryRepository.findUserMenusInFirstEatenOrder(recorded.keySet(), upToId)) {
+            String userId = (String) row[0];
+            List<Long> menus = keptMenus.computeIfAbsent(userId, id -> new ArrayList<>());
+            if (menus.size() < MAX_MENUS_PER_USER) {
+                menus.add((Long) row[1]);
+                totalCounts.computeIfAbsent(userId, id -> new HashMap<>()).put((Long) row[1], (Long) row[2]);
+            }
+        }
+
+        keptMenus.forEach((userId, menus) -> {
+            Map<Long, Integer> recordedCounts = recorded.get(userId);
+            Map<Long, Long> counts = totalCounts.get(userId);
+
+            // 이번 기록 전에는 먹은 적 없는 메뉴 (처음 먹은 순서상 항상 뒤쪽)
+            Set<Long> firstTime = new HashSet<>();
+            for (Long menuId : menus) {
+                if (counts.get(menuId) <= recordedCounts.getOrDefault(menuId, 0)) {
+                    firstTime.add(menuId);
+                }
+            }
+            if (firstTime.isEmpty()) {
+                return;
+            }
+
+            for (int i = 0; i < menus.size(); i++) {
+                Long menuId = menus.get(i);
+                if (!firstTime.contains(menuId)) {
+                    continue;
+                }
+                itemDeltas.merge(menuId, 1, Integer::sum);
+                for (int j = 0; j < menus.size(); j++) {
+                    // 기존 메뉴와는 모두, 새 메뉴끼리는 한 번만
+                    Long other = menus.get(j);
+                    if (!firstTime.contains(other) || j > i) {
+                        pairDeltas.merge(ItemSimilarityIndex.pairKey(menuId, other), 1, Integer::sum);
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,275 @@
+package com.menubot.menubot.menu.similarity;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메뉴-메뉴 동시 섭취 인덱스 (CSR 희소 행렬, 불변)
+ * - 행/열: 메뉴 ID 오름차순 위치
+ * - 값: 두 메뉴를 모두 먹어본 사용자 수 (가중치는 코사인 유사도로 미리 계산)
+ * - 행마다 상위 이웃만 보관 - 자르기 전 전체 쌍 카운트는 {@link Builder} 로 따로 저장해서 증분 반영 때만 읽음
+ */
+public final class ItemSimilarityIndex {
+
+    private static final int MAGIC = 0x4D534958; // "MSIX"
+    private static final int VERSION = 3;
+
+    static final int MAX_NEIGHBORS = 50; // 행마다 유사도 상위 이웃만 보관
+
+    private final long[] menuIds;     // 행 -> 메뉴 ID (정렬됨)
+    private final int[] itemCounts;   // 메뉴별 먹어본 사용자 수
+    private final int[] rowOffsets;   // 행 시작 위치 (길이 n + 1)
+    private final int[] neighbors;    // 이웃 행 번호
+    private final int[] coCounts;     // 함께 먹은 사용자 수
+    private final float[] weights;    // coCount / sqrt(count_i * count_j)
+
+    private ItemSimilarityIndex(long[] menuIds, int[] itemCounts, int[] rowOffsets,
+                                int[] neighbors, int[] coCounts) {
+        this.menuIds = menuIds;
+        this.itemCounts = itemCounts;
+        this.rowOffsets = rowOffsets;
+        this.neighbors = neighbors;
+        this.coCounts = coCounts;
+        this.weights = new float[neighbors.length];
+
+        for (int row = 0; row < menuIds.length; row++) {
+            for (int k = rowOffsets[row]; k < rowOffsets[row + 1]; k++) {
+                weights[k] = cosine(coCounts[k], itemCounts[row], itemCounts[neighbors[k]]);
+            }
+        }
+    }
+
+    public static ItemSimilarityIndex empty() {
+        return new ItemSimilarityIndex(new long[0], new int[0], new int[1], new int[0], new int[0]);
+    }
+
+    public int size() {
+        return menuIds.length;
+    }
+
+    public int nonZeros() {
+        return neighbors.length;
+    }
+
+    /**
+     * 후보 메뉴가 사용자가 먹어본 메뉴들과 얼마나 함께 먹히는지 (이웃 수에 비례하는 비용)
+     */
+    public double affinity(Long menuId, Set<Long> eatenMenuIds) {
+        if (eatenMenuIds.isEmpty()) {
+            return 0.0;
+        }
+
+        int row = Arrays.binarySearch(menuIds, menuId);
+        if (row < 0) {
+            return 0.0;
+        }
+
+        double sum = 0.0;
+        for (int k = rowOffsets[row]; k < rowOffsets[row + 1]; k++) {
+            if (eatenMenuIds.contains(menuIds[neighbors[k]])) {
+                sum += weights[k];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 두 메뉴 ID 를 쌍 키로 묶습니다 (작은 ID 가 상위 32비트)
+     */
+    public static long pairKey(long a, long b) {
+        return a < b ? (a << 32) | b : (b << 32) | a;
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(menuIds.length);
+        out.writeInt(neighbors.length);
+        for (long menuId : menuIds) {
+            out.writeLong(menuId);
+        }
+        for (int count : itemCounts) {
+            out.writeInt(count);
+        }
+        for (int offset : rowOffsets) {
+            out.writeInt(offset);
+        }
+        for (int neighbor : neighbors) {
+            out.writeInt(neighbor);
+        }
+        for (int count : coCounts) {
+            out.writeInt(count);
+        }
+    }
+
+    public static ItemSimilarityIndex readFrom(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Unsupported item similarity index format");
+        }
+
+        int size = in.readInt();
+        int nonZeros = in.readInt();
+
+        long[] menuIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            menuIds[i] = in.readLong();
+        }
+        int[] itemCounts = readInts(in, size);
+        int[] rowOffsets = readInts(in, size + 1);
+        int[] neighbors = readInts(in, nonZeros);
+        int[] coCounts = readInts(in, nonZeros);
+
+        return new ItemSimilarityIndex(menuIds, itemCounts, rowOffsets, neighbors, coCounts);
+    }
+
+    private static int[] readInts(DataInputStream in, int length) throws IOException {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static float cosine(int coCount, int countA, int countB) {
+        if (countA == 0 || countB == 0) {
+            return 0f;
+        }
+        return (float) (coCount / Math.sqrt((double) countA * countB));
+    }
+
+    /**
+     * 사용자별 메뉴 집합(또는 증분)을 모아 CSR 로 변환
+     * 이웃 상한 적용 전 전체 카운트를 파일로 저장/복원할 수 있음 (증분 반영이 전체 재계산과 같은 결과가 되도록)
+     */
+    public static final class Builder {
+
+        private static final int COUNTS_MAGIC = 0x4D534950; // "MSIP"
+        private static final int COUNTS_VERSION = 1;
+
+        private final Map<Long, Integer> itemCounts = new HashMap<>();
+        private final Map<Long, Integer> pairCounts = new HashMap<>();
+
+        /**
+         * 한 사용자가 먹어본 (서로 다른) 메뉴 집합을 반영합니다
+         */
+        public Builder addUser(Collection<Long> distinctMenuIds) {
+            List<Long> menus = new ArrayList<>(distinctMenuIds);
+            for (int i = 0; i < menus.size(); i++) {
+                addItem(menus.get(i), 1);
+                for (int j = i + 1; j < menus.size(); j++) {
+                    addPair(menus.get(i), menus.get(j), 1);
+                }
+            }
+            return this;
+        }
+
+        void addItem(long menuId, int count) {
+            itemCounts.merge(menuId, count, Integer::sum);
+        }
+
+        void addPair(long a, long b, int count) {
+            if (a != b) {
+                pairCounts.merge(pairKey(a, b), count, Integer::sum);
+            }
+        }
+
+        /**
+         * 증분(메뉴별 사용자 수, 쌍별 동시 섭취 수)을 더합니다
+         */
+        public Builder addDeltas(Map<Long, Integer> itemDeltas, Map<Long, Integer> pairDeltas) {
+            itemDeltas.forEach(this::addItem);
+            pairDeltas.forEach((key, count) -> pairCounts.merge(key, count, Integer::sum));
+            return this;
+        }
+
+        public int pairCount() {
+            return pairCounts.size();
+        }
+
+        public void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(COUNTS_MAGIC);
+            out.writeInt(COUNTS_VERSION);
+            out.writeInt(itemCounts.size());
+            for (Map.Entry<Long, Integer> entry : itemCounts.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+            out.writeInt(pairCounts.size());
+            for (Map.Entry<Long, Integer> entry : pairCounts.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue());
+            }
+        }
+
+        public static Builder readFrom(DataInputStream in) throws IOException {
+            if (in.readInt() != COUNTS_MAGIC || in.readInt() != COUNTS_VERSION) {
+                throw new IOException("Unsupported item similarity counts format");
+            }
+
+            Builder builder = new Builder();
+            int items = in.readInt();
+            for (int i = 0; i < items; i++) {
+                builder.itemCounts.put(in.readLong(), in.readInt());
+            }
+            int pairs = in.readInt();
+            for (int i = 0; i < pairs; i++) {
+                builder.pairCounts.put(in.readLong(), in.readInt());
+            }
+            return builder;
+        }
+
+        public ItemSimilarityIndex build() {
+            long[] menuIds = itemCounts.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int n = menuIds.length;
+
+            int[] counts = new int[n];
+            for (int i = 0; i < n; i++) {
+                counts[i] = itemCounts.get(menuIds[i]);
+            }
+
+            // 행별 (이웃, 동시 섭취 수) 수집
+            List<List<int[]>> rows = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                rows.add(new ArrayList<>());
+            }
+            pairCounts.forEach((key, coCount) -> {
+                int a = Arrays.binarySearch(menuIds, key >>> 32);
+                int b = Arrays.binarySearch(menuIds, key & 0xFFFFFFFFL);
+                if (a >= 0 && b >= 0) {
+                    rows.get(a).add(new int[]{b, coCount});
+                    rows.get(b).add(new int[]{a, coCount});
+                }
+            });
+
+            int[] rowOffsets = new int[n + 1];
+            List<int[]> entries = new ArrayList<>();
+            for (int row = 0; row < n; row++) {
+                List<int[]> neighbors = rows.get(row);
+                final int current = row;
+                neighbors.sort((x, y) -> Float.compare(
+                        cosine(y[1], counts[current], counts[y[0]]),
+                        cosine(x[1], counts[current], counts[x[0]])));
+                List<int[]> kept = neighbors.size() > MAX_NEIGHBORS ? neighbors.subList(0, MAX_NEIGHBORS) : neighbors;
+                entries.addAll(kept);
+                rowOffsets[row + 1] = entries.size();
+            }
+
+            int[] neighborRows = new int[entries.size()];
+            int[] coCounts = new int[entries.size()];
+            for (int k = 0; k < entries.size(); k++) {
+                neighborRows[k] = entries.get(k)[0];
+                coCounts[k] = entries.get(k)[1];
+            }
+
+            return new ItemSimilarityIndex(menuIds, counts, rowOffsets, neighborRows, coCounts);
+        }
+    }
+}
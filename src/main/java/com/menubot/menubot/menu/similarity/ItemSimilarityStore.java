@@ -0,0 +1,212 @@
+package com.menubot.menubot.menu.similarity;
+
+import com.menubot.menubot.menu.event.MealRecordedEvent;
+import com.menubot.menubot.menu.event.MenuMergedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 메뉴-메뉴 동시 섭취 인덱스 보관소
+ * - 기동 시 파일에서 로딩 (없으면 이력으로 계산)
+ * - 새 식사 기록은 모아두었다가 주기적으로 증분 반영 (전체 쌍 카운트 파일을 읽어 더한 뒤 다시 저장)
+ * - 매일 새벽 전체 재계산 (메뉴 병합 후에는 다음 반영 주기에 재계산)
+ * 메모리에는 이웃 상한을 적용한 인덱스만 두고, 전체 쌍 카운트는 반영할 때만 파일에서 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ItemSimilarityStore {
+
+    private final ItemSimilarityBuilder itemSimilarityBuilder;
+
+    @Value("${menubot.similarity.path:data/item-similarity.bin.gz}")
+    private String indexPath;
+
+    @Value("${menubot.similarity.counts-path:data/item-similarity-counts.bin.gz}")
+    private String countsPath;
+
+    private volatile ItemSimilarityIndex index = ItemSimilarityIndex.empty();
+    private final Queue<MealRecordedEvent> pending = new ConcurrentLinkedQueue<>();
+    private long rebuiltUpToId; // 마지막 전체 계산에 포함된 이력 ID 최댓값 (이 객체 락으로 보호)
+    private volatile boolean rebuildRequested;
+
+    public ItemSimilarityIndex current() {
+        return index;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Path path = Path.of(indexPath);
+        if (Files.exists(path) && Files.exists(Path.of(countsPath))) {
+            try (DataInputStream in = new DataInputStream(
+                    new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+                index = ItemSimilarityIndex.readFrom(in);
+                log.info("Item similarity index loaded from {} - menus: {}, pairs: {}",
+                        path, index.size(), index.nonZeros());
+                return;
+            } catch (IOException e) {
+                log.warn("Failed to load item similarity index from {}, rebuilding", path, e);
+            }
+        }
+        rebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRecorded(MealRecordedEvent event) {
+        pending.add(event);
+    }
+
+    /**
+     * 메뉴 병합 후 재계산 예약
+     * 사용자별 서로 다른 메뉴 수를 세므로 두 메뉴를 모두 먹은 사용자를 카운트만으로는 가려낼 수 없어 증분 대신 전체 재계산
+     * (관리자 요청 스레드를 붙잡지 않도록 다음 반영 주기에 실행)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuMerged(MenuMergedEvent event) {
+        rebuildRequested = true;
+    }
+
+    /**
+     * 쌓인 식사 기록을 인덱스에 반영합니다 (전체 이력은 다시 읽지 않음)
+     * 마지막 전체 계산에 이미 포함된 기록은 건너뜀 (두 번 세지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${menubot.similarity.apply-interval-ms:600000}")
+    public synchronized void applyPending() {
+        if (rebuildRequested) {
+            rebuild();
+            return;
+        }
+
+        Map<String, Map<Long, Integer>> recorded = new HashMap<>();
+        long upToId = 0;
+        MealRecordedEvent event;
+        while ((event = pending.poll()) != null) {
+            if (event.historyId() <= rebuiltUpToId) {
+                continue;
+            }
+            recorded.computeIfAbsent(event.kakaoUserId(), id -> new HashMap<>())
+                    .merge(event.menuId(), 1, Integer::sum);
+            upToId = Math.max(upToId, event.historyId());
+        }
+        if (recorded.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> itemDeltas = new HashMap<>();
+        Map<Long, Integer> pairDeltas = new HashMap<>();
+        itemSimilarityBuilder.collectDeltas(recorded, upToId, itemDeltas, pairDeltas);
+        if (itemDeltas.isEmpty()) {
+            return;
+        }
+
+        ItemSimilarityIndex.Builder counts = loadCounts();
+        if (counts == null) {
+            // 전체 카운트가 없으면 증분을 더할 기준이 없으므로 다시 계산 (이번 기록도 DB 에 있음)
+            rebuildIndex();
+            return;
+        }
+        index = counts.addDeltas(itemDeltas, pairDeltas).build();
+        log.debug("Item similarity index updated - users: {}, new pairs: {}", recorded.size(), pairDeltas.size());
+        save(counts);
+    }
+
+    /**
+     * 전체 재계산
+     * 시작 시점의 이력 ID 최댓값까지만 계산하고, 그 뒤 기록은 큐에 남겨 두었다가 새 인덱스에 이어서 반영
+     */
+    @Scheduled(cron = "${menubot.similarity.rebuild-cron:0 0 4 * * *}")
+    public synchronized void rebuild() {
+        rebuildIndex();
+
+        if (!pending.isEmpty()) {
+            applyPending();
+        }
+    }
+
+    private void rebuildIndex() {
+        rebuildRequested = false;
+        long upToId = itemSimilarityBuilder.currentHistoryId();
+        ItemSimilarityIndex.Builder counts = itemSimilarityBuilder.countFromHistory(upToId);
+
+        index = counts.build();
+        rebuiltUpToId = upToId;
+        log.info("Item similarity index rebuilt - menus: {}, pairs: {}", index.size(), index.nonZeros());
+        save(counts);
+    }
+
+    private ItemSimilarityIndex.Builder loadCounts() {
+        Path path = Path.of(countsPath);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            return ItemSimilarityIndex.Builder.readFrom(in);
+        } catch (IOException e) {
+            log.warn("Failed to load item similarity counts from {}", path, e);
+            return null;
+        }
+    }
+
+    private void save(ItemSimilarityIndex.Builder counts) {
+        write(Path.of(countsPath), counts::writeTo);
+        write(Path.of(indexPath), index::writeTo);
+    }
+
+    private void write(Path path, DataWriter writer) {
+        Path temp = null;
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            temp = Files.createTempFile(parent, "item-similarity", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                writer.write(out);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (IOException e) {
+            log.warn("Failed to save item similarity data to {}", path, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.debug("Failed to delete temporary file {}", temp, e);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface DataWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,115 @@
+package com.menubot.menubot.menu.trending;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간 감쇠 인기 카운터 (식사 타입 하나 분량)
+ * - forward decay: 기록 시각 기준 가중치 e^((t - 기준시각) / tau) 를 더해두면
+ *   다른 메뉴 점수는 변하지 않으므로 상위 K 목록을 기록 시점에 바로 갱신할 수 있음
+ * - 지수가 너무 커지면 기준 시각을 옮기고 전체를 같은 비율로 줄임 (순위 불변)
+ */
+class TrendingBoard {
+
+    private static final double MAX_EXPONENT = 50.0;
+
+    private final double tauSeconds;
+    private final int topK;
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private long landmarkEpochSecond;
+    private final List<Long> top = new ArrayList<>();
+    private volatile List<Long> published = List.of();
+
+    TrendingBoard(double tauSeconds, int topK, long landmarkEpochSecond) {
+        this.tauSeconds = tauSeconds;
+        this.topK = topK;
+        this.landmarkEpochSecond = landmarkEpochSecond;
+    }
+
+    /**
+     * 인기 순 상위 메뉴 ID (락 없이 바로 반환)
+     */
+    List<Long> top() {
+        return published;
+    }
+
+    synchronized void record(Long menuId, long epochSecond) {
+        double exponent = (epochSecond - landmarkEpochSecond) / tauSeconds;
+        if (exponent > MAX_EXPONENT) {
+            rescale(epochSecond);
+            exponent = 0.0;
+        }
+
+        double score = scores.merge(menuId, Math.exp(exponent), Double::sum);
+        updateTop(menuId, score);
+    }
+
+    /**
+     * 병합된 메뉴 점수를 대표 메뉴로 옮김 (같은 기준 시각이라 그대로 더하면 됨)
+     * 순위가 바뀌므로 상위 목록은 다시 만듦 (드문 관리 작업)
+     */
+    synchronized void merge(Long sourceMenuId, Long targetMenuId) {
+        Double score = scores.remove(sourceMenuId);
+        if (score == null) {
+            return;
+        }
+        scores.merge(targetMenuId, score, Double::sum);
+
+        top.clear();
+        scores.forEach(this::updateTop);
+        published = List.copyOf(top);
+    }
+
+    private void updateTop(Long menuId, double score) {
+        if (!top.contains(menuId)) {
+            if (top.size() >= topK && score <= scores.get(top.get(top.size() - 1))) {
+                return;
+            }
+            top.add(menuId);
+        }
+
+        top.sort((a, b) -> Double.compare(scores.get(b), scores.get(a)));
+        if (top.size() > topK) {
+            top.remove(top.size() - 1);
+        }
+        published = List.copyOf(top);
+    }
+
+    private void rescale(long newLandmark) {
+        double factor = Math.exp(-(newLandmark - landmarkEpochSecond) / tauSeconds);
+        scores.replaceAll((menuId, score) -> score * factor);
+        // 거의 0 이 된 메뉴는 정리
+        scores.values().removeIf(score -> score < 1e-6);
+        top.removeIf(menuId -> !scores.containsKey(menuId));
+        published = List.copyOf(top);
+        landmarkEpochSecond = newLandmark;
+    }
+
+    synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeLong(landmarkEpochSecond);
+        out.writeInt(scores.size());
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeDouble(entry.getValue());
+        }
+    }
+
+    synchronized void readFrom(DataInputStream in) throws IOException {
+        scores.clear();
+        top.clear();
+        landmarkEpochSecond = in.readLong();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            long menuId = in.readLong();
+            double score = in.readDouble();
+            scores.put(menuId, score);
+            updateTop(menuId, score);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.menubot.menubot.menu.trending;
+
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.event.MealRecordedEvent;
+import com.menubot.menubot.menu.event.MenuMergedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 식사 타입별 "요즘 인기" 메뉴 추적 (메모리, 시간 감쇠)
+ * - 식사 기록 커밋 시 갱신, 상위 K 는 DB 접근 없이 O(1) 조회
+ * - 주기적으로 파일에 체크포인트 (재시작 시 복원)
+ */
+@Slf4j
+@Component
+public class TrendingTracker {
+
+    private static final int MAGIC = 0x4D545244; // "MTRD"
+
+    private final Map<MealType, TrendingBoard> boards = new EnumMap<>(MealType.class);
+    private final Path checkpointPath;
+
+    public TrendingTracker(@Value("${menubot.trending.half-life-hours:72}") double halfLifeHours,
+                           @Value("${menubot.trending.top-k:10}") int topK,
+                           @Value("${menubot.trending.checkpoint-path:data/trending.bin.gz}") String checkpointPath) {
+        double tauSeconds = halfLifeHours * 3600 / Math.log(2);
+        long now = System.currentTimeMillis() / 1000;
+        for (MealType mealType : MealType.values()) {
+            boards.put(mealType, new TrendingBoard(tauSeconds, topK, now));
+        }
+        this.checkpointPath = Path.of(checkpointPath);
+    }
+
+    /**
+     * 식사 타입별 인기 메뉴 ID (인기 순)
+     */
+    public List<Long> topMenuIds(MealType mealType) {
+        return boards.get(mealType).top();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMealRecorded(MealRecordedEvent event) {
+        long epochSecond = event.eatenAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+        boards.get(event.mealType()).record(event.menuId(), epochSecond);
+    }
+
+    /**
+     * 병합된 메뉴의 인기 점수를 대표 메뉴로 합침
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuMerged(MenuMergedEvent event) {
+        for (TrendingBoard board : boards.values()) {
+            board.merge(event.sourceMenuId(), event.targetMenuId());
+        }
+    }
+
+    @PostConstruct
+    public void restore() {
+        if (!Files.exists(checkpointPath)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(new GZIPInputStream(Files.newInputStream(checkpointPath))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Unsupported trending checkpoint format");
+            }
+            int boardCount = in.readInt();
+            for (int i = 0; i < boardCount; i++) {
+                MealType mealType = MealType.valueOf(in.readUTF());
+                boards.get(mealType).readFrom(in);
+            }
+            log.info("Trending counters restored from {}", checkpointPath);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Failed to restore trending counters from {}", checkpointPath, e);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${menubot.trending.checkpoint-interval-ms:300000}")
+    public void checkpoint() {
+        try {
+            Path parent = checkpointPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, "trending", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(boards.size());
+                for (Map.Entry<MealType, TrendingBoard> entry : boards.entrySet()) {
+                    out.writeUTF(entry.getKey().name());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to checkpoint trending counters to {}", checkpointPath, e);
+        }
+    }
+}
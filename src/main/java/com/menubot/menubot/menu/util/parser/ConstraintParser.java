@@ -0,0 +1,102 @@
+package com.menubot.menubot.menu.util.parser;
+
+import com.menubot.menubot.menu.dto.MenuConstraint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 추천 요청 발화에서 조건 추출
+ * 예: "안 매운 거 추천", "500칼로리 이하", "중식으로"
+ * (숫자만 있거나 "500칼로리" 처럼 상한 표현이 없으면 칼로리 조건으로 보지 않음)
+ */
+@Slf4j
+@Component
+public class ConstraintParser {
+
+    // "매운" 이 낱말로 끝나는 경우만 (매운탕, 매운갈비찜 같은 메뉴 이름은 제외)
+    private static final String SPICY_WORD = "매운(?=$|[^가-힣]|거|걸|것|게|음식|메뉴)";
+
+    private static final Pattern NOT_SPICY = Pattern.compile("안\\s*" + SPICY_WORD + "|안\\s*맵|맵지\\s*않|순한");
+    private static final Pattern LESS_SPICY = Pattern.compile("덜\\s*" + SPICY_WORD + "|덜\\s*맵|약간\\s*" + SPICY_WORD);
+    private static final Pattern VERY_SPICY = Pattern.compile("(아주|엄청|완전|제일)\\s*" + SPICY_WORD);
+    private static final Pattern SPICY = Pattern.compile(SPICY_WORD + "|매콤(?:한|하게)|얼큰(?:한|하게)");
+
+    // 칼로리 단위는 온전한 낱말로만 (칼국수의 "칼" 제외), 상한 표현(이하/미만 등)이 있어야 상한으로 봄
+    // "미만/아래" 는 그 값을 포함하지 않으므로 1 을 뺀 값이 상한
+    private static final Pattern CALORIES = Pattern.compile(
+            "(?<!\\d)(\\d{2,4})\\s*(?:킬로칼로리|칼로리|kcal)\\s*(이하|미만|아래|까지|안쪽)",
+            Pattern.CASE_INSENSITIVE);
+
+    // 발화 키워드 -> 카테고리
+    private static final Map<String, String> CATEGORY_KEYWORDS = new LinkedHashMap<>();
+
+    static {
+        CATEGORY_KEYWORDS.put("한식", "한식");
+        CATEGORY_KEYWORDS.put("중식", "중식");
+        CATEGORY_KEYWORDS.put("중국", "중식");
+        CATEGORY_KEYWORDS.put("일식", "일식");
+        CATEGORY_KEYWORDS.put("일본", "일식");
+        CATEGORY_KEYWORDS.put("양식", "양식");
+        CATEGORY_KEYWORDS.put("분식", "분식");
+    }
+
+    public MenuConstraint parse(String utterance) {
+        if (utterance == null || utterance.isBlank()) {
+            return MenuConstraint.none();
+        }
+
+        MenuConstraint.MenuConstraintBuilder builder = MenuConstraint.builder();
+        boolean found = false;
+
+        // 1. 매운 정도 (부정 표현을 먼저 확인)
+        if (NOT_SPICY.matcher(utterance).find()) {
+            builder.maxSpicyLevel(0);
+            found = true;
+        } else if (LESS_SPICY.matcher(utterance).find()) {
+            builder.maxSpicyLevel(2);
+            found = true;
+        } else if (VERY_SPICY.matcher(utterance).find()) {
+            builder.minSpicyLevel(4);
+            found = true;
+        } else if (SPICY.matcher(utterance).find()) {
+            builder.minSpicyLevel(3);
+            found = true;
+        }
+
+        // 2. 칼로리 상한
+        Matcher calories = CALORIES.matcher(utterance);
+        if (calories.find()) {
+            int bound = Integer.parseInt(calories.group(1));
+            boolean exclusive = calories.group(2).equals("미만") || calories.group(2).equals("아래");
+            builder.maxCalories(exclusive ? bound - 1 : bound);
+            found = true;
+        }
+
+        // 3. 카테고리
+        Set<String> categories = new LinkedHashSet<>();
+        CATEGORY_KEYWORDS.forEach((keyword, category) -> {
+            if (utterance.contains(keyword)) {
+                categories.add(category);
+            }
+        });
+        if (!categories.isEmpty()) {
+            builder.categories(categories);
+            found = true;
+        }
+
+        if (!found) {
+            return MenuConstraint.none();
+        }
+
+        MenuConstraint constraint = builder.build();
+        log.debug("Parsed constraint: {}", constraint.describe());
+        return constraint;
+    }
+}
@@ -1,105 +1,269 @@
 package com.menubot.menubot.menu.util.parser;
 
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalog;
 import com.menubot.menubot.menu.entity.MealType;
 import com.menubot.menubot.menu.entity.Menu;
-import com.menubot.menubot.menu.service.MenuService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MessageParser {
 
-    private final MenuService menuService;
+    private final MenuCatalog menuCatalog;
+
+    // 메뉴를 이어주는 말 ("김치찌개랑", "라면하고") - 구간을 끊음
+    private static final List<String> CONNECTIVE_SUFFIXES = List.of("이랑", "랑", "하고", "과", "와");
+    private static final Set<String> CONNECTIVE_WORDS = Set.of("및", "그리고", "또", "랑", "하고");
+    // 단어 끝 조사 ("점심에", "파스타를")
+    private static final List<String> PARTICLE_SUFFIXES = List.of("에는", "에", "을", "를", "은", "는", "도");
+    // 메뉴 이름 끝에도 흔한 글자 (약과, 사과, 포도, 아보카도) - 떼어낸 이름이 카탈로그에 있을 때만 조사로 봄
+    // (과/와 는 뒤에 다른 메뉴가 이어질 때도 접속 조사로 봄)
+    private static final Set<String> AMBIGUOUS_SUFFIXES = Set.of("과", "와", "도");
+    // 받침 있는 글자 뒤에만 / 받침 없는 글자 뒤에만 붙는 조사
+    private static final Set<String> AFTER_FINAL_CONSONANT = Set.of("이랑", "과", "을", "은");
+    private static final Set<String> AFTER_VOWEL = Set.of("랑", "와", "를", "는");
+    // 띄어 쓰지 않은 서술어 ("라면먹었어", "짜장면드셨어요")
+    private static final List<String> VERB_ENDINGS = List.of(
+            "먹었", "먹어", "먹음", "먹을", "먹자", "먹고", "먹는", "드셨", "드심", "드시");
+    private static final Set<String> NOISE_WORDS = Set.of("오늘", "어제", "내일", "아침", "아까", "방금", "나", "저");
 
     /**
-     * 메시지에서 메뉴와 식사 타입 추출
+     * 메시지에서 여러 메뉴와 구간별 식사 타입 추출 (한 번 순회)
+     * 예: "김치찌개랑 공기밥 먹었어", "점심 라멘, 저녁 피자"
      */
-    public ParsedMeal parseMealMessage(String message) {
-        log.debug("Parsing message: {}", message);
-
-        // 1. 식사 타입 결정
-        MealType mealType = determineMealType(message);
+    public List<ParsedMeal> parseMealMessages(String message) {
+        log.debug("Parsing multi-meal message: {}", message);
+
+        CatalogSnapshot catalog = menuCatalog.snapshot();
+
+        // 1. 구간 분리: 구분자(쉼표, 랑/하고/와/과 등), 서술어, 식사 키워드에서 끊음
+        List<Token> tokens = tokenize(message);
+        List<String> segments = new ArrayList<>();
+        List<MealType> segmentMealTypes = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        MealType currentMealType = null;
+        MealType firstMealType = null;
+
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            String text = token.text();
+            boolean closeSegment = token.delimiterAfter();
+
+            // 붙여 쓴 서술어는 떼어내고 구간을 끝냄 ("라면먹었어" -> "라면")
+            int verbStart = isMenuName(catalog, text) ? -1 : verbStart(text);
+            if (verbStart > 0) {
+                text = text.substring(0, verbStart);
+                closeSegment = true;
+            }
 
-        // 2. 메뉴 이름 추출
-        String menuName = extractMenuName(message);
+            boolean followedByItem = !closeSegment && i + 1 < tokens.size() && isItemWord(tokens.get(i + 1).text());
+            String stripped = stripSuffix(catalog, text, CONNECTIVE_SUFFIXES, followedByItem);
+            if (!stripped.equals(text)) {
+                closeSegment = true;
+            }
+            stripped = stripSuffix(catalog, stripped, PARTICLE_SUFFIXES, false);
+
+            MealType keywordMealType = mealTypeKeyword(stripped);
+            if (keywordMealType != null || (isNoiseWord(stripped) && !isMenuName(catalog, stripped))) {
+                addSegment(segment, segments, segmentMealTypes, currentMealType);
+                if (keywordMealType != null) {
+                    currentMealType = keywordMealType;
+                    if (firstMealType == null) {
+                        firstMealType = keywordMealType;
+                    }
+                }
+            } else if (CONNECTIVE_WORDS.contains(stripped)) {
+                closeSegment = true;
+            } else if (!stripped.isEmpty()) {
+                if (!segment.isEmpty()) {
+                    segment.append(' ');
+                }
+                segment.append(stripped);
+            }
 
-        if (menuName == null) {
-            log.debug("Could not extract menu name from message");
-            return null;
+            if (closeSegment) {
+                addSegment(segment, segments, segmentMealTypes, currentMealType);
+            }
         }
+        addSegment(segment, segments, segmentMealTypes, currentMealType);
+
+        // 2. 구간별 메뉴 매칭 (식사 키워드가 뒤에만 있으면 그 키워드, 없으면 시간 기준)
+        MealType defaultMealType = firstMealType != null ? firstMealType : determineMealType(message);
+        List<ParsedMeal> meals = new ArrayList<>(segments.size());
+        Set<String> seen = new HashSet<>();
 
-        // 3. DB에서 메뉴 찾기 (유사도 매칭 포함)
-        Optional<Menu> matchedMenu = findBestMatchingMenu(menuName);
+        for (int i = 0; i < segments.size(); i++) {
+            String name = segments.get(i);
+            if (name.length() < 2) {
+                continue;
+            }
 
-        String finalMenuName = matchedMenu.map(Menu::getName).orElse(menuName);
+            String menuName = findBestMatchingMenu(name, catalog).map(Menu::getName).orElse(name);
+            MealType mealType = segmentMealTypes.get(i) != null ? segmentMealTypes.get(i) : defaultMealType;
 
-        log.debug("Parsed - MealType: {}, Menu: {}", mealType, finalMenuName);
+            if (seen.add(mealType + ":" + menuName)) {
+                meals.add(new ParsedMeal(mealType, menuName));
+            }
+        }
 
-        return new ParsedMeal(mealType, finalMenuName);
+        log.debug("Parsed {} meals: {}", meals.size(), segments);
+        return meals;
     }
 
     /**
-     * 메시지에서 메뉴 이름 추출 (매우 유연하게)
+     * 공백/구분자 단위로 자름 (구분자 바로 앞 단어는 표시)
      */
-    private String extractMenuName(String message) {
-        // 노이즈 제거
-        String cleaned = message
-                .replaceAll("먹었어|먹었다|먹음|드셨어|드셨다|드심|먹을래|먹자", "")
-                .replaceAll("점심|저녁|아침|오늘|어제|내일", "")
-                .replaceAll("에|을|를|이|가|은|는", "")
-                .trim();
-
-        // 1. DB의 모든 메뉴와 비교
-        List<Menu> allMenus = menuService.getAllMenus();
-        for (Menu menu : allMenus) {
-            if (cleaned.contains(menu.getName()) || menu.getName().contains(cleaned)) {
-                log.debug("Direct match found: {}", menu.getName());
-                return menu.getName();
+    private static List<Token> tokenize(String message) {
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0; i <= message.length(); i++) {
+            char c = i < message.length() ? message.charAt(i) : ' ';
+            boolean delimiter = c == ',' || c == '+' || c == '&' || c == '/' || c == '·';
+
+            if (!Character.isWhitespace(c) && !delimiter) {
+                word.append(c);
+                continue;
             }
+            if (!word.isEmpty()) {
+                tokens.add(new Token(word.toString(), delimiter));
+                word.setLength(0);
+            } else if (delimiter && !tokens.isEmpty()) {
+                Token last = tokens.get(tokens.size() - 1);
+                tokens.set(tokens.size() - 1, new Token(last.text(), true));
+            }
+        }
+        return tokens;
+    }
+
+    private record Token(String text, boolean delimiterAfter) {
+    }
+
+    private static boolean isMenuName(CatalogSnapshot catalog, String token) {
+        return catalog.resolve(token).isPresent();
+    }
+
+    private static void addSegment(StringBuilder segment, List<String> segments,
+                                   List<MealType> segmentMealTypes, MealType mealType) {
+        if (segment.isEmpty()) {
+            return;
         }
+        segments.add(segment.toString());
+        segmentMealTypes.add(mealType);
+        segment.setLength(0);
+    }
 
-        // 2. 2글자 이상인 한글만 추출
-        Pattern koreanPattern = Pattern.compile("[가-힣]{2,}");
-        Matcher matcher = koreanPattern.matcher(cleaned);
+    /**
+     * 끝의 조사를 떼어냅니다
+     * - 단어 자체가 메뉴 이름이면 그대로 ("사과", "약과"), 떼어낸 이름이 메뉴 이름이면 그것으로
+     * - 그 외에는 받침에 맞지 않는 조사는 무시 ("김밥이랑" 은 "이랑", "피자랑" 은 "랑")
+     * - 메뉴 이름 끝에도 흔한 글자(과/와/도)는 떼어낸 이름이 카탈로그에 있거나, 접속 조사 뒤에 다른 메뉴가 이어질 때만
+     */
+    private static String stripSuffix(CatalogSnapshot catalog, String token, List<String> suffixes,
+                                      boolean followedByItem) {
+        if (isMenuName(catalog, token)) {
+            return token;
+        }
+        String fallback = null;
+        for (String suffix : suffixes) {
+            if (token.length() <= suffix.length() || !token.endsWith(suffix)) {
+                continue;
+            }
+            String stripped = token.substring(0, token.length() - suffix.length());
+            if (isMenuName(catalog, stripped)) {
+                return stripped;
+            }
+            if (fallback == null
+                    && matchesFinalConsonant(stripped.charAt(stripped.length() - 1), suffix)
+                    && (!AMBIGUOUS_SUFFIXES.contains(suffix) || (followedByItem && CONNECTIVE_SUFFIXES.contains(suffix)))) {
+                fallback = stripped;
+            }
+        }
+        return fallback != null ? fallback : token;
+    }
 
-        if (matcher.find()) {
-            String extracted = matcher.group();
-            log.debug("Extracted Korean text: {}", extracted);
-            return extracted;
+    private static boolean matchesFinalConsonant(char last, String suffix) {
+        if (last < '가' || last > '힣') {
+            return true;
+        }
+        boolean hasFinal = (last - '가') % 28 != 0;
+        if (AFTER_FINAL_CONSONANT.contains(suffix)) {
+            return hasFinal;
         }
+        if (AFTER_VOWEL.contains(suffix)) {
+            return !hasFinal;
+        }
+        return true;
+    }
 
-        // 3. 원본 cleaned 사용
-        if (cleaned.length() >= 2) {
-            return cleaned;
+    /**
+     * 단어 안에 붙은 서술어 시작 위치 (없으면 -1)
+     */
+    private static int verbStart(String token) {
+        int start = -1;
+        for (String ending : VERB_ENDINGS) {
+            int index = token.indexOf(ending, 1);
+            if (index > 0 && (start < 0 || index < start)) {
+                start = index;
+            }
         }
+        return start;
+    }
 
-        return null;
+    /**
+     * 다음 단어가 메뉴가 될 수 있는 말인지 (식사 키워드/서술어/접속어가 아님)
+     */
+    private static boolean isItemWord(String token) {
+        return mealTypeKeyword(token) == null && !isNoiseWord(token) && !CONNECTIVE_WORDS.contains(token);
+    }
+
+    private static MealType mealTypeKeyword(String token) {
+        return switch (token) {
+            case "점심", "런치" -> MealType.LUNCH;
+            case "저녁", "디너" -> MealType.DINNER;
+            default -> null;
+        };
+    }
+
+    private static boolean isNoiseWord(String token) {
+        return NOISE_WORDS.contains(token)
+                || token.startsWith("먹")
+                || token.startsWith("드셨")
+                || token.startsWith("드심");
     }
 
     /**
      * 메뉴 이름 유사도 매칭 (오타 허용)
      */
-    private Optional<Menu> findBestMatchingMenu(String input) {
-        List<Menu> allMenus = menuService.getAllMenus();
-
-        // 정확히 일치하는 메뉴 우선
-        Optional<Menu> exactMatch = allMenus.stream()
-                .filter(menu -> menu.getName().equals(input))
-                .findFirst();
+    private Optional<Menu> findBestMatchingMenu(String input, CatalogSnapshot catalog) {
+        // 대표 이름/별칭 일치 우선 (해시 조회 한 번)
+        Optional<Menu> exactMatch = catalog.resolve(input);
 
         if (exactMatch.isPresent()) {
             return exactMatch;
         }
 
+        // 초성/접두사 일치 (질의 길이만큼만 탐색)
+        Optional<Menu> prefixMatch = catalog.findByPrefix(input);
+
+        if (prefixMatch.isPresent()) {
+            log.debug("Prefix match found: {} for input: {}", prefixMatch.get().getName(), input);
+            return prefixMatch;
+        }
+
+        List<Menu> allMenus = catalog.getMenus();
+
         // 부분 일치
         Optional<Menu> partialMatch = allMenus.stream()
                 .filter(menu -> menu.getName().contains(input) || input.contains(menu.getName()))
@@ -111,12 +275,14 @@ public class MessageParser {
         }
 
         // 유사도 계산 (레벤슈타인 거리)
+        // 오타는 세 글자당 한 글자, 최대 두 글자까지 (짧은 이름은 모르는 메뉴를 엉뚱한 메뉴로 바꾸지 않도록)
+        int maxDistance = Math.min(2, input.length() / 3);
         Menu bestMatch = null;
         int bestDistance = Integer.MAX_VALUE;
 
         for (Menu menu : allMenus) {
             int distance = levenshteinDistance(input, menu.getName());
-            if (distance < bestDistance && distance <= 2) { // 오타 2글자까지 허용
+            if (distance < bestDistance && distance <= maxDistance) {
                 bestDistance = distance;
                 bestMatch = menu;
             }
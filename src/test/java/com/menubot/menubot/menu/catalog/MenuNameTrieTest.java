@@ -0,0 +1,70 @@
+package com.menubot.menubot.menu.catalog;
+
+import com.menubot.menubot.menu.entity.Menu;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuNameTrieTest {
+
+	private static final int KIMCHI_STEW = 0;
+	private static final int KIMCHI_FRIED_RICE = 1;
+	private static final int SNACK = 2;
+	private static final int DAKGALBI = 3;
+	private static final int ONION = 4;
+
+	private final MenuNameTrie trie = new MenuNameTrie(Map.of(
+			"김치찌개", KIMCHI_STEW,
+			"김치볶음밥", KIMCHI_FRIED_RICE,
+			"과자", SNACK,
+			"닭갈비", DAKGALBI,
+			"양파", ONION
+	));
+
+	@Test
+	void chosungQueryFindsMenu() {
+		assertThat(trie.findPrefix("ㄱㅊㅉㄱ")).isEqualTo(KIMCHI_STEW);
+		assertThat(trie.findPrefix("ㄱㅊㅂ")).isEqualTo(KIMCHI_FRIED_RICE);
+		assertThat(trie.findPrefix("ㄷㄱㅂ")).isEqualTo(DAKGALBI);
+	}
+
+	@Test
+	void syllableBeingTypedMatchesPrefix() {
+		// "찍" 은 "찌" 다음 "개"의 초성을 받침으로 미리 친 상태
+		assertThat(trie.findPrefix("김치찌")).isEqualTo(KIMCHI_STEW);
+		assertThat(trie.findPrefix("김치찍")).isEqualTo(KIMCHI_STEW);
+		assertThat(trie.findPrefix("김치보")).isEqualTo(KIMCHI_FRIED_RICE);
+	}
+
+	@Test
+	void compoundVowelsAndFinalsAreSplit() {
+		// 과 = ㄱ ㅗ ㅏ, 닭 = ㄷ ㅏ ㄹ ㄱ
+		assertThat(trie.findPrefix("고")).isEqualTo(SNACK);
+		assertThat(trie.findPrefix("곽")).isEqualTo(-1);
+		assertThat(trie.findPrefix("달")).isEqualTo(DAKGALBI);
+		assertThat(trie.findPrefix("닭가")).isEqualTo(DAKGALBI);
+	}
+
+	@Test
+	void shortestNameWinsAndMissesReturnNone() {
+		assertThat(trie.findPrefix("김치")).isEqualTo(KIMCHI_STEW);
+		assertThat(trie.findPrefix("피자")).isEqualTo(-1);
+	}
+
+	@Test
+	void shortChosungQueriesAreIgnoredBySnapshot() {
+		CatalogSnapshot catalog = new CatalogSnapshot(List.of(
+				Menu.restore(1L, "김치찌개", "한식", 450, 3),
+				Menu.restore(2L, "양념치킨", "양식", 900, 1),
+				Menu.restore(3L, "쌀국수", "아시안", 500, 0)
+		));
+
+		assertThat(catalog.findByPrefix("ㅇㅇ")).isEmpty();
+		assertThat(catalog.findByPrefix("ㅋㅋ")).isEmpty();
+		assertThat(catalog.findByPrefix("ㅇㄴㅊ")).map(Menu::getName).contains("양념치킨");
+		assertThat(catalog.findByPrefix("김치")).map(Menu::getName).contains("김치찌개");
+	}
+}
@@ -0,0 +1,84 @@
+package com.menubot.menubot.menu.datasource;
+
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.repository.MealHistoryRepository;
+import com.menubot.menubot.menu.service.RecommendationService;
+import com.menubot.menubot.menu.util.parser.MessageParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 프로필(H2 주 DB / 복제본) 라우팅 검증
+ * 복제본은 기동 때 한 번만 적재되도록 주기를 길게 잡아서, 이후 기록은 주 DB 에만 있음
+ */
+@SpringBootTest(properties = {
+		"menubot.datasource.replica-sync-ms=3600000",
+		"menubot.datasource.routing.lag-guard-ms=60000"
+})
+@ActiveProfiles("local")
+class ReadWriteRoutingDataSourceTest {
+
+	@Autowired
+	private RecommendationService recommendationService;
+
+	@Autowired
+	private MealHistoryRepository mealHistoryRepository;
+
+	@Autowired
+	private ReplicaLagGuard replicaLagGuard;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		RequestUserContext.clear();
+		replicaLagGuard.resumeReplica();
+	}
+
+	private int countMeals(String requestUserId, String kakaoUserId) {
+		RequestUserContext.set(requestUserId);
+		try {
+			TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+			readOnly.setReadOnly(true);
+			return readOnly.execute(status -> mealHistoryRepository.findByKakaoUserId(kakaoUserId).size());
+		} finally {
+			RequestUserContext.clear();
+		}
+	}
+
+	@Test
+	void justRecordedUserReadsFromPrimary() {
+		recommendationService.recordMeals("routing-user", List.of(new MessageParser.ParsedMeal(MealType.LUNCH, "김치찌개")));
+
+		assertThat(replicaLagGuard.isPinned("routing-user")).isTrue();
+		assertThat(countMeals("routing-user", "routing-user")).isEqualTo(1);
+	}
+
+	@Test
+	void otherReadOnlyRequestsReadFromReplica() {
+		recommendationService.recordMeals("routing-writer", List.of(new MessageParser.ParsedMeal(MealType.DINNER, "된장찌개")));
+
+		// 복제본에는 아직 없음
+		assertThat(countMeals("routing-reader", "routing-writer")).isZero();
+		assertThat(countMeals(null, "routing-writer")).isZero();
+	}
+
+	@Test
+	void readsGoToPrimaryWhileReplicaIsSuspended() {
+		recommendationService.recordMeals("routing-syncing", List.of(new MessageParser.ParsedMeal(MealType.LUNCH, "비빔밥")));
+
+		replicaLagGuard.suspendReplica();
+
+		assertThat(countMeals("routing-reader", "routing-syncing")).isEqualTo(1);
+	}
+}
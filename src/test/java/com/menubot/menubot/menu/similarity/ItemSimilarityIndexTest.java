@@ -0,0 +1,78 @@
+package com.menubot.menubot.menu.similarity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemSimilarityIndexTest {
+
+	private static final long A = 1L;
+	private static final long B = 2L;
+
+	/**
+	 * 메뉴 A, B 는 각각 더 강한 이웃 50개를 가져서 (A, B) 쌍이 양쪽 행에서 모두 잘려 나감
+	 */
+	private static ItemSimilarityIndex.Builder baseUsers() {
+		ItemSimilarityIndex.Builder builder = new ItemSimilarityIndex.Builder();
+		for (long neighbor = 100; neighbor < 150; neighbor++) {
+			for (int user = 0; user < 3; user++) {
+				builder.addUser(List.of(A, neighbor));
+			}
+		}
+		for (long neighbor = 200; neighbor < 250; neighbor++) {
+			for (int user = 0; user < 3; user++) {
+				builder.addUser(List.of(B, neighbor));
+			}
+		}
+		builder.addUser(List.of(A, B));
+		return builder;
+	}
+
+	@Test
+	void deltasOnRestoredCountsMatchFullRebuild() throws Exception {
+		ItemSimilarityIndex base = baseUsers().build();
+		assertThat(base.affinity(A, Set.of(B))).isZero();
+
+		// 카운트 파일로 저장했다 다시 읽어도 잘린 쌍 카운트가 유지되어야 함
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		baseUsers().writeTo(new DataOutputStream(bytes));
+		ItemSimilarityIndex.Builder restored = ItemSimilarityIndex.Builder.readFrom(
+				new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		int newUsers = 29;
+		ItemSimilarityIndex merged = restored.addDeltas(
+				Map.of(A, newUsers, B, newUsers),
+				Map.of(ItemSimilarityIndex.pairKey(A, B), newUsers)).build();
+
+		ItemSimilarityIndex.Builder full = baseUsers();
+		for (int user = 0; user < newUsers; user++) {
+			full.addUser(List.of(A, B));
+		}
+		ItemSimilarityIndex rebuilt = full.build();
+
+		assertThat(rebuilt.affinity(A, Set.of(B))).isPositive();
+		assertThat(merged.affinity(A, Set.of(B))).isEqualTo(rebuilt.affinity(A, Set.of(B)));
+		assertThat(merged.nonZeros()).isEqualTo(rebuilt.nonZeros());
+	}
+
+	@Test
+	void indexRoundTripsThroughFile() throws Exception {
+		ItemSimilarityIndex index = baseUsers().build();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		index.writeTo(new DataOutputStream(bytes));
+		ItemSimilarityIndex restored = ItemSimilarityIndex.readFrom(
+				new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertThat(restored.nonZeros()).isEqualTo(index.nonZeros());
+		assertThat(restored.affinity(A, Set.of(100L))).isEqualTo(index.affinity(A, Set.of(100L)));
+	}
+}
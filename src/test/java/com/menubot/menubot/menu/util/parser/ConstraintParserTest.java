@@ -0,0 +1,46 @@
+package com.menubot.menubot.menu.util.parser;
+
+import com.menubot.menubot.menu.dto.MenuConstraint;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConstraintParserTest {
+
+	private final ConstraintParser parser = new ConstraintParser();
+
+	@Test
+	void menuNamesContainingKeywordsAreNotConstraints() {
+		assertThat(parser.parse("칼국수 추천해줘").isEmpty()).isTrue();
+		assertThat(parser.parse("12칼국수").isEmpty()).isTrue();
+		assertThat(parser.parse("매운탕 먹고 싶어").isEmpty()).isTrue();
+		assertThat(parser.parse("안 매운탕").isEmpty()).isTrue();
+	}
+
+	@Test
+	void spicyWordsAreParsed() {
+		assertThat(parser.parse("매운 거 추천").getMinSpicyLevel()).isEqualTo(3);
+		assertThat(parser.parse("매운거").getMinSpicyLevel()).isEqualTo(3);
+		assertThat(parser.parse("엄청 매운 음식").getMinSpicyLevel()).isEqualTo(4);
+		assertThat(parser.parse("안 매운 거").getMaxSpicyLevel()).isZero();
+		assertThat(parser.parse("덜 매운 메뉴").getMaxSpicyLevel()).isEqualTo(2);
+	}
+
+	@Test
+	void caloriesNeedUnitAndUpperBound() {
+		assertThat(parser.parse("500칼로리 이하").getMaxCalories()).isEqualTo(500);
+		assertThat(parser.parse("600 kcal 미만으로").getMaxCalories()).isEqualTo(599);
+		assertThat(parser.parse("600칼로리 까지").getMaxCalories()).isEqualTo(600);
+		assertThat(parser.parse("500").isEmpty()).isTrue();
+		assertThat(parser.parse("500칼로리").isEmpty()).isTrue();
+	}
+
+	@Test
+	void constraintsCombine() {
+		MenuConstraint constraint = parser.parse("안 매운 중식 700칼로리 이하");
+
+		assertThat(constraint.getCategories()).containsExactly("중식");
+		assertThat(constraint.getMaxSpicyLevel()).isZero();
+		assertThat(constraint.getMaxCalories()).isEqualTo(700);
+	}
+}
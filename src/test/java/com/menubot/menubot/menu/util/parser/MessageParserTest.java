@@ -0,0 +1,76 @@
+package com.menubot.menubot.menu.util.parser;
+
+import com.menubot.menubot.menu.catalog.CatalogSnapshot;
+import com.menubot.menubot.menu.catalog.MenuCatalog;
+import com.menubot.menubot.menu.entity.MealType;
+import com.menubot.menubot.menu.entity.Menu;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageParserTest {
+
+	private static final CatalogSnapshot CATALOG = new CatalogSnapshot(List.of(
+			Menu.restore(1L, "김치찌개", "한식", 450, 3),
+			Menu.restore(2L, "공기밥", "한식", 300, 0),
+			Menu.restore(3L, "라면", "분식", 500, 2),
+			Menu.restore(4L, "피자", "양식", 800, 0),
+			Menu.restore(5L, "파스타", "양식", 650, 0),
+			Menu.restore(6L, "떡볶이", "분식", 480, 3),
+			Menu.restore(7L, "사과", "기타", 100, 0)
+	));
+
+	private final MessageParser parser = new MessageParser(new MenuCatalog(null, null, null) {
+		@Override
+		public CatalogSnapshot snapshot() {
+			return CATALOG;
+		}
+	});
+
+	private List<String> menuNames(String message) {
+		return parser.parseMealMessages(message).stream()
+				.map(meal -> meal.menuName)
+				.toList();
+	}
+
+	@Test
+	void attachedVerbEndingIsStripped() {
+		assertThat(menuNames("라면먹었어")).containsExactly("라면");
+		assertThat(menuNames("짜장면드셨어요")).containsExactly("짜장면");
+		assertThat(menuNames("라면먹고 공기밥")).containsExactly("라면", "공기밥");
+	}
+
+	@Test
+	void unknownNamesEndingLikeParticlesAreKept() {
+		assertThat(menuNames("아보카도 먹었어")).containsExactly("아보카도");
+		assertThat(menuNames("포도 먹었어")).containsExactly("포도");
+		assertThat(menuNames("약과 먹었어")).containsExactly("약과");
+	}
+
+	@Test
+	void particlesAreStrippedWhenTheRestIsAMenu() {
+		assertThat(menuNames("피자도 먹었어")).containsExactly("피자");
+		assertThat(menuNames("사과랑 포도")).containsExactly("사과", "포도");
+		assertThat(menuNames("파스타를 먹었어")).containsExactly("파스타");
+	}
+
+	@Test
+	void connectivesSplitMenus() {
+		assertThat(menuNames("김치찌개랑 공기밥 먹었어")).containsExactly("김치찌개", "공기밥");
+		assertThat(menuNames("떡볶이랑 김밥이랑")).containsExactly("떡볶이", "김밥");
+		assertThat(menuNames("망고와 피자")).containsExactly("망고", "피자");
+	}
+
+	@Test
+	void mealKeywordsApplyToFollowingSegments() {
+		List<MessageParser.ParsedMeal> meals = parser.parseMealMessages("점심 라멘, 저녁 피자");
+
+		assertThat(meals).hasSize(2);
+		assertThat(meals.get(0).mealType).isEqualTo(MealType.LUNCH);
+		assertThat(meals.get(0).menuName).isEqualTo("라멘");
+		assertThat(meals.get(1).mealType).isEqualTo(MealType.DINNER);
+		assertThat(meals.get(1).menuName).isEqualTo("피자");
+	}
+}